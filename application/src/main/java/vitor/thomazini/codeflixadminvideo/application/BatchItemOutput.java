@@ -0,0 +1,21 @@
+package vitor.thomazini.codeflixadminvideo.application;
+
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+public record BatchItemOutput(int index, String id, List<Error> errors) {
+
+    public static BatchItemOutput success(final int index, final String id) {
+        return new BatchItemOutput(index, id, List.of());
+    }
+
+    public static BatchItemOutput failure(final int index, final ValidationHandler handler) {
+        return new BatchItemOutput(index, null, List.copyOf(handler.getErrors()));
+    }
+
+    public boolean succeeded() {
+        return this.errors.isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package vitor.thomazini.codeflixadminvideo.application;
+
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.domain.validation.ValidationHandler;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collects the outcome of each item of a batch and writes the accepted ones in chunks, one gateway call per chunk.
+ * A chunk that fails to be written is written again one item at a time, so only the items that fail on their own are
+ * reported, without affecting the chunks already written. Domain errors are reported as they are; any other failure
+ * is logged and reported with a generic error, so no internal message reaches the caller.
+ */
+public final class BatchWriter<T> {
+
+    private static final System.Logger LOGGER = System.getLogger(BatchWriter.class.getName());
+
+    private static final Error WRITE_ERROR = new Error("Could not write the item");
+
+    private final int chunkSize;
+    private final BatchItemOutput[] results;
+    private final List<Integer> indexes;
+    private final List<T> items;
+
+    public BatchWriter(final int size, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.chunkSize = chunkSize;
+        this.results = new BatchItemOutput[size];
+        this.indexes = new ArrayList<>(size);
+        this.items = new ArrayList<>(size);
+    }
+
+    /**
+     * Refuses a batch with more than {@code maxItems} items as a whole, before any of them is read.
+     */
+    public static void requireAtMost(final List<?> commands, final int maxItems) {
+        if (commands.size() > maxItems) {
+            throw new NotificationException(
+                    "Could not process the batch",
+                    Notification.create(new Error("A batch accepts at most %d items, got %d".formatted(maxItems, commands.size())))
+            );
+        }
+    }
+
+    public void accept(final int index, final T item) {
+        this.indexes.add(index);
+        this.items.add(item);
+    }
+
+    public void reject(final int index, final ValidationHandler handler) {
+        this.results[index] = BatchItemOutput.failure(index, handler);
+    }
+
+    public List<BatchItemOutput> write(final UnaryOperator<List<T>> writer, final Function<T, String> idOf) {
+        for (int from = 0; from < this.items.size(); from += this.chunkSize) {
+            final var to = Math.min(from + this.chunkSize, this.items.size());
+
+            if (!write(writer, idOf, from, to) && to - from > 1) {
+                for (int i = from; i < to; i++) {
+                    write(writer, idOf, i, i + 1);
+                }
+            }
+        }
+
+        return Arrays.asList(this.results);
+    }
+
+    private boolean write(final UnaryOperator<List<T>> writer, final Function<T, String> idOf, final int from, final int to) {
+        try {
+            final var written = writer.apply(this.items.subList(from, to));
+            for (int i = 0; i < written.size(); i++) {
+                final var index = this.indexes.get(from + i);
+                this.results[index] = BatchItemOutput.success(index, idOf.apply(written.get(i)));
+            }
+            return true;
+        } catch (final RuntimeException e) {
+            final var notification = errorsOf(e);
+            for (int i = from; i < to; i++) {
+                this.results[this.indexes.get(i)] = BatchItemOutput.failure(this.indexes.get(i), notification);
+            }
+            return false;
+        }
+    }
+
+    private static Notification errorsOf(final RuntimeException e) {
+        if (e instanceof DomainException ex && !ex.errors().isEmpty()) {
+            final var notification = Notification.create();
+            ex.errors().forEach(notification::append);
+            return notification;
+        }
+        LOGGER.log(System.Logger.Level.WARNING, "Could not write a batch chunk", e);
+        return Notification.create(WRITE_ERROR);
+    }
+}
@@ -0,0 +1,91 @@
+package vitor.thomazini.codeflixadminvideo.application;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent gateway calls of a use case. Concurrently, each call gets its own virtual thread, a failure cancels
+ * the other call and both have finished when {@link #join} returns or throws, so no call outlives the use case. When
+ * both fail, the failure of the first call is thrown, as it would be sequentially.
+ */
+public final class Forks {
+
+    private static final Forks SEQUENTIAL = new Forks(false);
+    private static final Forks CONCURRENT = new Forks(true);
+
+    private static final ThreadFactory THREADS = Thread.ofVirtual().name("fork-", 0).factory();
+
+    private final boolean concurrent;
+
+    private Forks(final boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    public static Forks sequential() {
+        return SEQUENTIAL;
+    }
+
+    public static Forks concurrent() {
+        return CONCURRENT;
+    }
+
+    public static Forks of(final boolean concurrent) {
+        return concurrent ? CONCURRENT : SEQUENTIAL;
+    }
+
+    public boolean isConcurrent() {
+        return this.concurrent;
+    }
+
+    public <A, B> Tuple2<A, B> join(final Supplier<A> first, final Supplier<B> second) {
+        if (!this.concurrent) {
+            return Tuple.of(first.get(), second.get());
+        }
+
+        final var firstTask = new FutureTask<>(first::get);
+        final var secondTask = new FutureTask<>(second::get);
+
+        // close() waits for both tasks, interrupting them if this thread is interrupted meanwhile
+        try (final var scope = Executors.newThreadPerTaskExecutor(THREADS)) {
+            scope.execute(cancelOnFailure(firstTask, secondTask));
+            scope.execute(cancelOnFailure(secondTask, firstTask));
+        }
+
+        return Tuple.of(resultOf(firstTask, secondTask), resultOf(secondTask, firstTask));
+    }
+
+    private static Runnable cancelOnFailure(final FutureTask<?> task, final Future<?> other) {
+        return () -> {
+            task.run();
+            if (task.state() == Future.State.FAILED) {
+                other.cancel(true);
+            }
+        };
+    }
+
+    private static <T> T resultOf(final Future<T> task, final Future<?> other) {
+        return switch (task.state()) {
+            case SUCCESS -> task.resultNow();
+            case FAILED -> throw rethrow(task.exceptionNow());
+            default -> throw other.state() == Future.State.FAILED
+                    ? rethrow(other.exceptionNow())
+                    : new IllegalStateException("Forked call was cancelled");
+        };
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException e) {
+            throw e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,11 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public sealed abstract class CreateCastMembersBatchUseCase
+        extends UseCase<List<CreateCastMemberCommand>, List<BatchItemOutput>>
+        permits DefaultCreateCastMembersBatchUseCase {
+}
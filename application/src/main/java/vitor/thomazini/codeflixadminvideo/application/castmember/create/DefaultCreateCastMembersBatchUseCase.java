@@ -0,0 +1,48 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultCreateCastMembersBatchUseCase extends CreateCastMembersBatchUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultCreateCastMembersBatchUseCase(
+            final CastMemberGateway castMemberGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<CreateCastMemberCommand> aCommands) {
+        BatchWriter.requireAtMost(aCommands, this.maxItems);
+
+        final var batch = new BatchWriter<CastMember>(aCommands.size(), this.chunkSize);
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var notification = Notification.create();
+            final var aMember = notification.validate(() -> CastMember.newCastMember(aCommand.name(), aCommand.type()));
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, aMember);
+            }
+        }
+
+        return batch.write(this.castMemberGateway::createAll, it -> it.id().value());
+    }
+}
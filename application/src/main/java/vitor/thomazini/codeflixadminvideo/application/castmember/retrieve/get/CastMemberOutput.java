@@ -10,7 +10,8 @@ public record CastMemberOutput(
         String name,
         CastMemberType type,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
 
     public static CastMemberOutput from(final CastMember aMember) {
@@ -19,7 +20,8 @@ public record CastMemberOutput(
                 aMember.name(),
                 aMember.type(),
                 aMember.createdAt(),
-                aMember.updatedAt()
+                aMember.updatedAt(),
+                aMember.version()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list;
+
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+/**
+ * Reads list pages straight into {@link CastMemberListOutput}, without rebuilding the aggregates.
+ */
+public interface CastMemberListGateway {
+
+    Pagination<CastMemberListOutput> list(SearchQuery query);
+}
@@ -1,6 +1,5 @@
 package vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list;
 
-import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public non-sealed class DefaultListCastMembersUseCase extends ListCastMembersUseCase {
 
-    private final CastMemberGateway castMemberGateway;
+    private final CastMemberListGateway castMemberListGateway;
 
-    public DefaultListCastMembersUseCase(final CastMemberGateway castMemberGateway) {
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    public DefaultListCastMembersUseCase(final CastMemberListGateway castMemberListGateway) {
+        this.castMemberListGateway = Objects.requireNonNull(castMemberListGateway);
     }
 
     @Override
     public Pagination<CastMemberListOutput> execute(final SearchQuery aQuery) {
-        return this.castMemberGateway.findAll(aQuery)
-                .map(CastMemberListOutput::from);
+        return this.castMemberListGateway.list(aQuery);
     }
 }
\ No newline at end of file
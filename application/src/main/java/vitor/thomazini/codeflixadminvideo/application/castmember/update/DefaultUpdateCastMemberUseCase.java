@@ -35,7 +35,8 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
             notify(anId, notification);
         }
 
-        return UpdateCastMemberOutput.from(this.castMemberGateway.update(aMember));
+        // the version is checked by the database row alone, since the copy read above may come from a cache
+        return UpdateCastMemberOutput.from(this.castMemberGateway.update(aMember, aCommand.version()));
     }
 
     private void notify(final Identifier anId, final Notification notification) {
@@ -0,0 +1,71 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public non-sealed class DefaultUpdateCastMembersBatchUseCase extends UpdateCastMembersBatchUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultUpdateCastMembersBatchUseCase(
+            final CastMemberGateway castMemberGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<UpdateCastMemberCommand> aCommands) {
+        BatchWriter.requireAtMost(aCommands, this.maxItems);
+
+        final var anIds = aCommands.stream()
+                .map(it -> CastMemberId.from(it.id()))
+                .toList();
+
+        final var aMembers = this.castMemberGateway.findByIds(anIds).stream()
+                .collect(Collectors.toMap(CastMember::id, Function.identity()));
+
+        final var batch = new BatchWriter<CastMember>(aCommands.size(), this.chunkSize);
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var aMember = aMembers.get(anIds.get(i));
+
+            if (aMember == null) {
+                batch.reject(i, Notification.create(NotFoundException.with(CastMember.class, anIds.get(i))));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var updated = notification.validate(() -> CastMember.with(aMember, expectedVersion(aCommand.version(), aMember.version()))
+                    .update(aCommand.name(), aCommand.type()));
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, updated);
+            }
+        }
+
+        return batch.write(this.castMemberGateway::updateAll, it -> it.id().value());
+    }
+
+    private static long expectedVersion(final Long sent, final long read) {
+        return sent == null ? read : sent;
+    }
+}
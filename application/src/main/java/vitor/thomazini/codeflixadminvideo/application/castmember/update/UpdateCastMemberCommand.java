@@ -5,7 +5,8 @@ import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
 public record UpdateCastMemberCommand(
         String id,
         String name,
-        CastMemberType type
+        CastMemberType type,
+        Long version
 ) {
 
     public static UpdateCastMemberCommand with(
@@ -13,6 +14,15 @@ public record UpdateCastMemberCommand(
             final String aName,
             final CastMemberType aType
     ) {
-        return new UpdateCastMemberCommand(anId, aName, aType);
+        return with(anId, aName, aType, null);
+    }
+
+    public static UpdateCastMemberCommand with(
+            final String anId,
+            final String aName,
+            final CastMemberType aType,
+            final Long aVersion
+    ) {
+        return new UpdateCastMemberCommand(anId, aName, aType, aVersion);
     }
 }
\ No newline at end of file
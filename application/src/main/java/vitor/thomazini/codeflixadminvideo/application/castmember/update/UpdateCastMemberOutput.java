@@ -3,13 +3,13 @@ package vitor.thomazini.codeflixadminvideo.application.castmember.update;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
 
-public record UpdateCastMemberOutput(String id) {
+public record UpdateCastMemberOutput(String id, long version) {
 
     public static UpdateCastMemberOutput from(final CastMemberId anId) {
-        return new UpdateCastMemberOutput(anId.value());
+        return new UpdateCastMemberOutput(anId.value(), 0);
     }
 
     public static UpdateCastMemberOutput from(final CastMember aMember) {
-        return from(aMember.id());
+        return new UpdateCastMemberOutput(aMember.id().value(), aMember.version());
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public sealed abstract class UpdateCastMembersBatchUseCase
+        extends UseCase<List<UpdateCastMemberCommand>, List<BatchItemOutput>>
+        permits DefaultUpdateCastMembersBatchUseCase {
+}
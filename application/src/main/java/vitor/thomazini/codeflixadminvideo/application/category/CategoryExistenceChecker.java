@@ -0,0 +1,160 @@
+package vitor.thomazini.codeflixadminvideo.application.category;
+
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Tells which categories do not exist, remembering both answers in a bounded LRU with a time to live. Creating or
+ * deleting a category must invalidate it. A zero size or TTL disables the cache.
+ */
+public class CategoryExistenceChecker {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<CategoryId, Entry> entries;
+    private final ReentrantLock lock;
+    private long generation;
+
+    public CategoryExistenceChecker(final CategoryGateway categoryGateway) {
+        this(categoryGateway, 0, Duration.ZERO);
+    }
+
+    public CategoryExistenceChecker(final CategoryGateway categoryGateway, final int maxSize, final Duration ttl) {
+        this(categoryGateway, maxSize, ttl, System::nanoTime);
+    }
+
+    CategoryExistenceChecker(
+            final CategoryGateway categoryGateway,
+            final int maxSize,
+            final Duration ttl,
+            final LongSupplier clock
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Returns the given ids that do not exist, in the order they were given and without repetitions.
+     */
+    public Set<CategoryId> missing(final Collection<CategoryId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+
+        final var answers = new HashMap<CategoryId, Boolean>();
+        final var unknown = new LinkedHashSet<CategoryId>();
+        final var generation = lookup(ids, answers, unknown);
+
+        if (!unknown.isEmpty()) {
+            final var existing = new HashSet<>(this.categoryGateway.existsByIds(List.copyOf(unknown)));
+            final var loaded = new HashMap<CategoryId, Boolean>();
+            unknown.forEach(id -> loaded.put(id, existing.contains(id)));
+            answers.putAll(loaded);
+            store(loaded, generation);
+        }
+
+        final var missing = new LinkedHashSet<CategoryId>();
+        for (final var id : ids) {
+            if (!answers.get(id)) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    public void invalidate(final CategoryId id) {
+        this.lock.lock();
+        try {
+            this.generation++;
+            this.entries.remove(id);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            this.generation++;
+            this.entries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private boolean isEnabled() {
+        return this.maxSize > 0 && this.ttlNanos > 0;
+    }
+
+    private long lookup(
+            final Collection<CategoryId> ids,
+            final Map<CategoryId, Boolean> answers,
+            final Set<CategoryId> unknown
+    ) {
+        this.lock.lock();
+        try {
+            final var now = this.clock.getAsLong();
+            for (final var id : ids) {
+                final var entry = isEnabled() ? this.entries.get(id) : null;
+                if (entry == null) {
+                    unknown.add(id);
+                } else if (now - entry.storedAt() >= this.ttlNanos) {
+                    this.entries.remove(id);
+                    unknown.add(id);
+                } else {
+                    answers.put(id, entry.exists());
+                }
+            }
+            return this.generation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // answers loaded while a category was created or deleted may be outdated, so they are not kept
+    private void store(final Map<CategoryId, Boolean> loaded, final long generation) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        this.lock.lock();
+        try {
+            if (generation != this.generation) {
+                return;
+            }
+
+            final var now = this.clock.getAsLong();
+            loaded.forEach((id, exists) -> this.entries.put(id, new Entry(exists, now)));
+
+            final var eldest = this.entries.keySet().iterator();
+            while (this.entries.size() > this.maxSize) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private record Entry(boolean exists, long storedAt) {
+    }
+}
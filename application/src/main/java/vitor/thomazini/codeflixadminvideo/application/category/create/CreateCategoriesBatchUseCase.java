@@ -0,0 +1,10 @@
+package vitor.thomazini.codeflixadminvideo.application.category.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public abstract class CreateCategoriesBatchUseCase
+        extends UseCase<List<CreateCategoryCommand>, List<BatchItemOutput>> {
+}
@@ -0,0 +1,49 @@
+package vitor.thomazini.codeflixadminvideo.application.category.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesBatchUseCase extends CreateCategoriesBatchUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultCreateCategoriesBatchUseCase(
+            final CategoryGateway categoryGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<CreateCategoryCommand> commands) {
+        BatchWriter.requireAtMost(commands, this.maxItems);
+
+        final var batch = new BatchWriter<Category>(commands.size(), this.chunkSize);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var category = Category.newCategory(command.name(), command.description(), command.isActive());
+            final var notification = Notification.create();
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, category);
+            }
+        }
+
+        return batch.write(this.categoryGateway::createAll, it -> it.id().value());
+    }
+}
@@ -8,7 +8,7 @@ import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification
 
 import java.util.Objects;
 
-public final class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
+public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
@@ -5,7 +5,7 @@ import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
 
 import java.util.Objects;
 
-public final class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
+public class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
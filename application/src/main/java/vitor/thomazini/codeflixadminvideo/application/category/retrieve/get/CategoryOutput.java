@@ -12,7 +12,8 @@ public record CategoryOutput(
         boolean isActive,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
+        Instant deletedAt,
+        long version
 ) {
 
     public static CategoryOutput from(final Category category) {
@@ -23,7 +24,8 @@ public record CategoryOutput(
                 category.isActive(),
                 category.createdAt(),
                 category.updatedAt(),
-                category.deletedAt()
+                category.deletedAt(),
+                category.version()
         );
     }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-public final class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
 
     private final CategoryGateway categoryGateway;
 
@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.application.category.retrieve.list;
+
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+/**
+ * Reads list pages straight into {@link CategoryListOutput}, without rebuilding the aggregates.
+ */
+public interface CategoryListGateway {
+
+    Pagination<CategoryListOutput> list(SearchQuery query);
+}
@@ -1,6 +1,5 @@
 package vitor.thomazini.codeflixadminvideo.application.category.retrieve.list;
 
-import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
-    private final CategoryGateway categoryGateway;
+    private final CategoryListGateway categoryListGateway;
 
-    public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public DefaultListCategoriesUseCase(final CategoryListGateway categoryListGateway) {
+        this.categoryListGateway = Objects.requireNonNull(categoryListGateway);
     }
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery query) {
-        return this.categoryGateway.findAll(query)
-                .map(CategoryListOutput::from);
+        return this.categoryListGateway.list(query);
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package vitor.thomazini.codeflixadminvideo.application.category.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultUpdateCategoriesBatchUseCase extends UpdateCategoriesBatchUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultUpdateCategoriesBatchUseCase(
+            final CategoryGateway categoryGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<UpdateCategoryCommand> commands) {
+        BatchWriter.requireAtMost(commands, this.maxItems);
+
+        final var ids = commands.stream()
+                .map(it -> CategoryId.from(it.id()))
+                .toList();
+
+        final var categories = this.categoryGateway.findByIds(ids).stream()
+                .collect(Collectors.toMap(Category::id, Function.identity()));
+
+        final var batch = new BatchWriter<Category>(commands.size(), this.chunkSize);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var category = categories.get(ids.get(i));
+
+            if (category == null) {
+                batch.reject(i, Notification.create(NotFoundException.with(Category.class, ids.get(i))));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var updated = Category.from(category, expectedVersion(command.version(), category.version()))
+                    .update(command.name(), command.description(), command.isActive());
+            updated.validate(notification);
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, updated);
+            }
+        }
+
+        return batch.write(this.categoryGateway::updateAll, it -> it.id().value());
+    }
+
+    // the copy carries the version the client read, so the gateway refuses it if the row changed since; without one,
+    // the version read above is used
+    private static long expectedVersion(final Long sent, final long read) {
+        return sent == null ? read : sent;
+    }
+}
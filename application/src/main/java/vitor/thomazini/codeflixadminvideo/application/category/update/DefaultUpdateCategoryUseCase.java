@@ -5,6 +5,7 @@ import io.vavr.control.Either;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
@@ -12,7 +13,7 @@ import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification
 import java.util.Objects;
 import java.util.function.Supplier;
 
-public final class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
+public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
@@ -31,11 +32,18 @@ public final class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         category.update(command.name(), command.description(), command.isActive())
                 .validate(notification);
 
-        return notification.hasErrors() ? API.Left(notification) : update(category);
+        return notification.hasErrors() ? API.Left(notification) : update(category, command.version());
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return API.Try(() -> this.categoryGateway.update(category))
+    // the version is checked by the database row alone, since the copy read above may come from a cache
+    private Either<Notification, UpdateCategoryOutput> update(final Category category, final Long version) {
+        return API.Try(() -> this.categoryGateway.update(category, version))
+                .onFailure(ConflictException.class, ex -> {
+                    throw ex;
+                })
+                .onFailure(NotFoundException.class, ex -> {
+                    throw ex;
+                })
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
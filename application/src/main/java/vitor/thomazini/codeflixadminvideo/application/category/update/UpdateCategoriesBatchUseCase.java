@@ -0,0 +1,10 @@
+package vitor.thomazini.codeflixadminvideo.application.category.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public abstract class UpdateCategoriesBatchUseCase
+        extends UseCase<List<UpdateCategoryCommand>, List<BatchItemOutput>> {
+}
@@ -2,13 +2,13 @@ package vitor.thomazini.codeflixadminvideo.application.category.update;
 
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 
-public record UpdateCategoryOutput(String id) {
+public record UpdateCategoryOutput(String id, long version) {
 
     public static UpdateCategoryOutput from(final String id) {
-        return new UpdateCategoryOutput(id);
+        return new UpdateCategoryOutput(id, 0);
     }
 
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.id().value());
+        return new UpdateCategoryOutput(category.id().value(), category.version());
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package vitor.thomazini.codeflixadminvideo.application.genre;
+
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that the categories referenced by genres exist, shared by the genre use cases so they all report a missing
+ * category the same way.
+ */
+public final class GenreCategories {
+
+    private final CategoryExistenceChecker categoryExistenceChecker;
+
+    public GenreCategories(final CategoryExistenceChecker categoryExistenceChecker) {
+        this.categoryExistenceChecker = Objects.requireNonNull(categoryExistenceChecker);
+    }
+
+    public static List<CategoryId> toCategoryId(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+        return categories.stream()
+                .map(CategoryId::from)
+                .toList();
+    }
+
+    /**
+     * Returns the missing categories of many genres with one lookup, instead of one per genre.
+     */
+    public Set<CategoryId> missing(final List<List<CategoryId>> categories) {
+        final var ids = categories.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return this.categoryExistenceChecker.missing(ids);
+    }
+
+    public Notification validate(final List<CategoryId> ids) {
+        return validate(ids, this.categoryExistenceChecker.missing(ids));
+    }
+
+    public static Notification validate(final List<CategoryId> ids, final Set<CategoryId> missing) {
+        final var notification = Notification.create();
+        final var missingIdsMessage = ids.stream()
+                .filter(missing::contains)
+                .map(CategoryId::value)
+                .distinct()
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+        return notification;
+    }
+}
@@ -0,0 +1,9 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public abstract class CreateGenresBatchUseCase extends UseCase<List<CreateGenreCommand>, List<BatchItemOutput>> {
+}
@@ -0,0 +1,61 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.create;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.genre.GenreCategories;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class DefaultCreateGenresBatchUseCase extends CreateGenresBatchUseCase {
+
+    private final GenreCategories genreCategories;
+    private final GenreGateway genreGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultCreateGenresBatchUseCase(
+            final CategoryExistenceChecker categoryExistenceChecker,
+            final GenreGateway genreGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.genreCategories = new GenreCategories(categoryExistenceChecker);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<CreateGenreCommand> commands) {
+        BatchWriter.requireAtMost(commands, this.maxItems);
+
+        final var categories = commands.stream()
+                .map(it -> GenreCategories.toCategoryId(it.categories()))
+                .toList();
+
+        final var missingCategories = this.genreCategories.missing(categories);
+        final var batch = new BatchWriter<Genre>(commands.size(), this.chunkSize);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var notification = GenreCategories.validate(categories.get(i), missingCategories);
+
+            final var genre = notification.validate(() -> Genre.newGenre(command.name(), command.isActive()));
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, genre.addCategories(categories.get(i)));
+            }
+        }
+
+        return batch.write(this.genreGateway::createAll, it -> it.id().value());
+    }
+}
@@ -13,7 +13,8 @@ public record GenreOutput(
         List<String> categories,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
+        Instant deletedAt,
+        long version
 ) {
 
     public static GenreOutput from(final Genre genre) {
@@ -26,7 +27,8 @@ public record GenreOutput(
                         .toList(),
                 genre.createdAt(),
                 genre.updatedAt(),
-                genre.deletedAt()
+                genre.deletedAt(),
+                genre.version()
         );
     }
 }
@@ -1,6 +1,5 @@
 package vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list;
 
-import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public class DefaultListGenreUseCase extends ListGenreUseCase {
 
-    private final GenreGateway genreGateway;
+    private final GenreListGateway genreListGateway;
 
-    public DefaultListGenreUseCase(final GenreGateway genreGateway) {
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public DefaultListGenreUseCase(final GenreListGateway genreListGateway) {
+        this.genreListGateway = Objects.requireNonNull(genreListGateway);
     }
 
     @Override
     public Pagination<GenreListOutput> execute(final SearchQuery query) {
-        return this.genreGateway.findAll(query)
-                .map(GenreListOutput::from);
+        return this.genreListGateway.list(query);
     }
 }
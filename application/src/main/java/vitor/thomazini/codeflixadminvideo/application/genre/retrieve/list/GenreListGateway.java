@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list;
+
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+/**
+ * Reads list pages straight into {@link GenreListOutput}, without rebuilding the aggregates.
+ */
+public interface GenreListGateway {
+
+    Pagination<GenreListOutput> list(SearchQuery query);
+}
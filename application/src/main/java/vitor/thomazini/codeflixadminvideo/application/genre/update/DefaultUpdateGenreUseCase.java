@@ -1,45 +1,56 @@
 package vitor.thomazini.codeflixadminvideo.application.genre.update;
 
-import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
-import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.application.Forks;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.genre.GenreCategories;
 import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
-import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
-import vitor.thomazini.codeflixadminvideo.domain.validation.ValidationHandler;
 import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
 
-    private final CategoryGateway categoryGateway;
+    private final GenreCategories genreCategories;
     private final GenreGateway genreGateway;
+    private final Forks forks;
 
     public DefaultUpdateGenreUseCase(
-            final CategoryGateway categoryGateway,
+            final CategoryExistenceChecker categoryExistenceChecker,
             final GenreGateway genreGateway
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this(categoryExistenceChecker, genreGateway, Forks.sequential());
+    }
+
+    public DefaultUpdateGenreUseCase(
+            final CategoryExistenceChecker categoryExistenceChecker,
+            final GenreGateway genreGateway,
+            final Forks forks
+    ) {
+        this.genreCategories = new GenreCategories(categoryExistenceChecker);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.forks = Objects.requireNonNull(forks);
     }
 
     @Override
     public UpdateGenreOutput execute(final UpdateGenreCommand command) {
         final var id = GenreId.from(command.id());
-        final var categories = toCategoryId(command.categories());
+        final var categories = GenreCategories.toCategoryId(command.categories());
+
+        // loading the genre and checking its categories are independent round trips
+        final var loaded = this.forks.join(
+                () -> this.genreGateway.findById(id).orElseThrow(notFound(id)),
+                () -> this.genreCategories.validate(categories)
+        );
+        final var genre = loaded._1();
 
-        final var genre = this.genreGateway.findById(id)
-                .orElseThrow(notFound(id));
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
+        notification.append(loaded._2());
         notification.validate(() -> genre.update(command.name(), command.isActive(), categories));
 
         if (notification.hasErrors()) {
@@ -49,37 +60,11 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
             );
         }
 
-        return UpdateGenreOutput.from(this.genreGateway.update(genre));
-    }
-
-    private ValidationHandler validateCategories(final List<CategoryId> ids) {
-        final var notification = Notification.create();
-        if (Objects.isNull(ids) || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrieveIds = categoryGateway.existsByIds(ids);
-        if (ids.size() != retrieveIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrieveIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(CategoryId::value)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
-        }
-
-        return notification;
+        // the version is checked by the database row alone, since the copy read above may come from a cache
+        return UpdateGenreOutput.from(this.genreGateway.update(genre, command.version()));
     }
 
     private static Supplier<DomainException> notFound(final GenreId id) {
         return () -> NotFoundException.with(Genre.class, id);
     }
-
-    private List<CategoryId> toCategoryId(final List<String> categories) {
-        return categories.stream()
-                .map(CategoryId::from)
-                .toList();
-    }
 }
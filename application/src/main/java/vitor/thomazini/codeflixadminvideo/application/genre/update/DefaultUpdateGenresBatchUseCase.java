@@ -0,0 +1,82 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.genre.GenreCategories;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultUpdateGenresBatchUseCase extends UpdateGenresBatchUseCase {
+
+    private final GenreCategories genreCategories;
+    private final GenreGateway genreGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultUpdateGenresBatchUseCase(
+            final CategoryExistenceChecker categoryExistenceChecker,
+            final GenreGateway genreGateway,
+            final int chunkSize,
+            final int maxItems
+    ) {
+        this.genreCategories = new GenreCategories(categoryExistenceChecker);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BatchItemOutput> execute(final List<UpdateGenreCommand> commands) {
+        BatchWriter.requireAtMost(commands, this.maxItems);
+
+        final var ids = commands.stream()
+                .map(it -> GenreId.from(it.id()))
+                .toList();
+        final var categories = commands.stream()
+                .map(it -> GenreCategories.toCategoryId(it.categories()))
+                .toList();
+
+        final var genres = this.genreGateway.findByIds(ids).stream()
+                .collect(Collectors.toMap(Genre::id, Function.identity()));
+        final var missingCategories = this.genreCategories.missing(categories);
+        final var batch = new BatchWriter<Genre>(commands.size(), this.chunkSize);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var genre = genres.get(ids.get(i));
+
+            if (genre == null) {
+                batch.reject(i, Notification.create(NotFoundException.with(Genre.class, ids.get(i))));
+                continue;
+            }
+
+            final var notification = GenreCategories.validate(categories.get(i), missingCategories);
+
+            final var itemCategories = categories.get(i);
+            final var updated = notification.validate(() -> Genre.from(genre, expectedVersion(command.version(), genre.version()))
+                    .update(command.name(), command.isActive(), itemCategories));
+
+            if (notification.hasErrors()) {
+                batch.reject(i, notification);
+            } else {
+                batch.accept(i, updated);
+            }
+        }
+
+        return batch.write(this.genreGateway::updateAll, it -> it.id().value());
+    }
+
+    private static long expectedVersion(final Long sent, final long read) {
+        return sent == null ? read : sent;
+    }
+}
@@ -2,9 +2,9 @@ package vitor.thomazini.codeflixadminvideo.application.genre.update;
 
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 
-public record UpdateGenreOutput(String id) {
+public record UpdateGenreOutput(String id, long version) {
 
     public static UpdateGenreOutput from(final Genre genre) {
-        return new UpdateGenreOutput(genre.id().value());
+        return new UpdateGenreOutput(genre.id().value(), genre.version());
     }
 }
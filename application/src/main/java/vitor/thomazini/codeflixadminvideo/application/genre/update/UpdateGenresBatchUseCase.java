@@ -0,0 +1,9 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.update;
+
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+
+import java.util.List;
+
+public abstract class UpdateGenresBatchUseCase extends UseCase<List<UpdateGenreCommand>, List<BatchItemOutput>> {
+}
@@ -0,0 +1,86 @@
+package vitor.thomazini.codeflixadminvideo.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Tag("unitTest")
+class ForksTest {
+
+    @Test
+    void givenConcurrentForks_whenJoin_thenShouldRunBothCallsAtTheSameTime() {
+        // Arrange
+        final var started = new CountDownLatch(2);
+        final var forks = Forks.concurrent();
+
+        // Act
+        final var actualResult = forks.join(
+                () -> awaitOther(started),
+                () -> awaitOther(started)
+        );
+
+        // Assert
+        Assertions.assertTrue(actualResult._1());
+        Assertions.assertTrue(actualResult._2());
+    }
+
+    @Test
+    void givenConcurrentForks_whenOneCallFails_thenShouldCancelTheOtherAndRethrow() {
+        // Arrange
+        final var expectedErrorMessage = "Gateway error";
+        final var interrupted = new AtomicBoolean();
+        final var forks = Forks.concurrent();
+
+        // Act
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> forks.join(
+                () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (final InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return "never";
+                },
+                () -> {
+                    throw new IllegalStateException(expectedErrorMessage);
+                }
+        ));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertTrue(interrupted.get());
+    }
+
+    @Test
+    void givenSequentialForks_whenFirstCallFails_thenShouldNotRunTheSecond() {
+        // Arrange
+        final var expectedErrorMessage = "Gateway error";
+        final var ran = new AtomicBoolean();
+        final var forks = Forks.sequential();
+
+        // Act
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> forks.join(
+                () -> {
+                    throw new IllegalStateException(expectedErrorMessage);
+                },
+                () -> ran.getAndSet(true)
+        ));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertFalse(ran.get());
+    }
+
+    private static boolean awaitOther(final CountDownLatch started) {
+        started.countDown();
+        try {
+            return started.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
-import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -26,11 +25,11 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
     private DefaultListCastMembersUseCase useCase;
 
     @Mock
-    private CastMemberGateway castMemberGateway;
+    private CastMemberListGateway castMemberListGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(castMemberGateway);
+        return List.of(castMemberListGateway);
     }
 
     @Test
@@ -59,8 +58,8 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
                 members
         );
 
-        when(castMemberGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(castMemberListGateway.list(any()))
+                .thenReturn(expectedPagination.map(CastMemberListOutput::from));
 
         final var aQuery = new SearchQuery(
                 expectedPage,
@@ -79,7 +78,7 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway).findAll(aQuery);
+        verify(castMemberListGateway).list(aQuery);
     }
 
     @Test
@@ -102,8 +101,8 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
                 members
         );
 
-        when(castMemberGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(castMemberListGateway.list(any()))
+                .thenReturn(expectedPagination.map(CastMemberListOutput::from));
 
         final var aQuery = new SearchQuery(
                 expectedPage,
@@ -122,7 +121,7 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway).findAll(aQuery);
+        verify(castMemberListGateway).list(aQuery);
     }
 
     @Test
@@ -136,7 +135,7 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway error";
 
-        when(castMemberGateway.findAll(any()))
+        when(castMemberListGateway.list(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery = new SearchQuery(
@@ -155,6 +154,6 @@ class DefaultListCastMembersUseCaseTest extends UseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway).findAll(aQuery);
+        verify(castMemberListGateway).list(aQuery);
     }
 }
\ No newline at end of file
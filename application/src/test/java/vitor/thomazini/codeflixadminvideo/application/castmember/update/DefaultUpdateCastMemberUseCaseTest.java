@@ -54,7 +54,7 @@ class DefaultUpdateCastMemberUseCaseTest extends UseCaseTest {
         when(castMemberGateway.findById(any()))
                 .thenReturn(Optional.of(CastMember.with(aMember)));
 
-        when(castMemberGateway.update(any()))
+        when(castMemberGateway.update(any(), any()))
                 .thenAnswer(returnsFirstArg());
 
         // Act
@@ -71,7 +71,7 @@ class DefaultUpdateCastMemberUseCaseTest extends UseCaseTest {
                         && Objects.equals(expectedType, aUpdatedMember.type())
                         && Objects.equals(aMember.createdAt(), aUpdatedMember.createdAt())
                         && aMember.updatedAt().isBefore(aUpdatedMember.updatedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -106,7 +106,7 @@ class DefaultUpdateCastMemberUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.errors().getFirst().message());
 
         verify(castMemberGateway).findById(expectedId);
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -141,7 +141,7 @@ class DefaultUpdateCastMemberUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.errors().getFirst().message());
 
         verify(castMemberGateway).findById(eq(expectedId));
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -174,6 +174,6 @@ class DefaultUpdateCastMemberUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
         verify(castMemberGateway).findById(eq(expectedId));
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 }
\ No newline at end of file
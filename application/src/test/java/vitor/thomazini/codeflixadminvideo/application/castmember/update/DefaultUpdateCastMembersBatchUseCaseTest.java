@@ -0,0 +1,70 @@
+package vitor.thomazini.codeflixadminvideo.application.castmember.update;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefaultUpdateCastMembersBatchUseCaseTest extends UseCaseTest {
+
+    private DefaultUpdateCastMembersBatchUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultUpdateCastMembersBatchUseCase(castMemberGateway, 100, 100);
+    }
+
+    @Test
+    void givenExistingMissingAndInvalidItems_whenCallsUpdateCastMembersBatch_thenShouldReportEachItem() {
+        // Arrange
+        final var vin = CastMember.newCastMember("vin diesel", CastMemberType.DIRECTOR);
+        final var jason = CastMember.newCastMember("jason statham", CastMemberType.ACTOR);
+        final var expectedName = "Vin Diesel";
+
+        final var commands = List.of(
+                UpdateCastMemberCommand.with(vin.id().value(), expectedName, CastMemberType.ACTOR),
+                UpdateCastMemberCommand.with("123", "Keanu Reeves", CastMemberType.ACTOR),
+                UpdateCastMemberCommand.with(jason.id().value(), null, CastMemberType.ACTOR)
+        );
+
+        when(castMemberGateway.findByIds(any()))
+                .thenReturn(List.of(vin, jason));
+        when(castMemberGateway.updateAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertEquals(vin.id().value(), actualOutput.get(0).id());
+        Assertions.assertEquals("CastMember with ID 123 was not found", actualOutput.get(1).errors().get(0).message());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(2).errors().get(0).message());
+
+        verify(castMemberGateway, times(1)).findByIds(any());
+        verify(castMemberGateway, times(1)).updateAll(argThat(members ->
+                members.size() == 1
+                        && Objects.equals(expectedName, members.get(0).name())
+                        && Objects.equals(CastMemberType.ACTOR, members.get(0).type())
+        ));
+        Assertions.assertEquals("vin diesel", vin.name());
+    }
+}
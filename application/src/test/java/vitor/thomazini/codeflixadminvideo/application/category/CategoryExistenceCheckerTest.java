@@ -0,0 +1,117 @@
+package vitor.thomazini.codeflixadminvideo.application.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+class CategoryExistenceCheckerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final CategoryId movies = CategoryId.from("movies");
+    private final CategoryId series = CategoryId.from("series");
+    private final CategoryId kids = CategoryId.from("kids");
+
+    private CategoryGateway categoryGateway;
+    private CategoryExistenceChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = mock(CategoryGateway.class);
+        checker = new CategoryExistenceChecker(categoryGateway, 10, Duration.ofSeconds(5), clock::get);
+    }
+
+    @Test
+    void givenRepeatedIds_whenCallsMissing_thenShouldReturnEachMissingIdOnceInOrder() {
+        // Arrange
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(series));
+
+        // Act
+        final var actualMissing = checker.missing(List.of(kids, series, movies, kids));
+
+        // Assert
+        Assertions.assertEquals(List.of(kids, movies), List.copyOf(actualMissing));
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(kids, series, movies)));
+    }
+
+    @Test
+    void givenCachedAnswers_whenCallsMissing_thenShouldOnlyLookUpUnknownIds() {
+        // Arrange
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(movies));
+        checker.missing(List.of(movies, series));
+
+        // Act
+        final var actualMissing = checker.missing(List.of(movies, series, kids));
+
+        // Assert
+        Assertions.assertEquals(List.of(series, kids), List.copyOf(actualMissing));
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(movies, series)));
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(kids)));
+    }
+
+    @Test
+    void givenAnExpiredAnswer_whenCallsMissing_thenShouldLookItUpAgain() {
+        // Arrange
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(movies));
+        checker.missing(List.of(movies));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // Act
+        checker.missing(List.of(movies));
+
+        // Assert
+        verify(categoryGateway, times(2)).existsByIds(any());
+    }
+
+    @Test
+    void givenAnInvalidatedId_whenCallsMissing_thenShouldLookItUpAgain() {
+        // Arrange
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(movies));
+        checker.missing(List.of(movies, series));
+
+        // Act
+        checker.invalidate(movies);
+        final var actualMissing = checker.missing(List.of(movies, series));
+
+        // Assert
+        Assertions.assertEquals(List.of(series), List.copyOf(actualMissing));
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(movies)));
+    }
+
+    @Test
+    void givenADisabledCache_whenCallsMissing_thenShouldAlwaysLookUp() {
+        // Arrange
+        final var disabled = new CategoryExistenceChecker(categoryGateway);
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(movies));
+
+        // Act
+        disabled.missing(List.of(movies));
+        disabled.missing(List.of(movies));
+
+        // Assert
+        verify(categoryGateway, times(2)).existsByIds(any());
+    }
+
+    @Test
+    void givenNoIds_whenCallsMissing_thenShouldNotLookUp() {
+        // Act
+        final var actualMissing = checker.missing(List.of());
+
+        // Assert
+        Assertions.assertTrue(actualMissing.isEmpty());
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+}
@@ -0,0 +1,132 @@
+package vitor.thomazini.codeflixadminvideo.application.category.create;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefaultCreateCategoriesBatchUseCaseTest extends UseCaseTest {
+
+    private DefaultCreateCategoriesBatchUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateCategoriesBatchUseCase(categoryGateway, 2, 100);
+    }
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategoriesBatch_thenShouldCreateOnlyTheValidOnesInChunks() {
+        // Arrange
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, false)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).succeeded());
+        Assertions.assertNotNull(actualOutput.get(0).id());
+        Assertions.assertFalse(actualOutput.get(1).succeeded());
+        Assertions.assertNull(actualOutput.get(1).id());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).errors().get(0).message());
+        Assertions.assertTrue(actualOutput.get(2).succeeded());
+        Assertions.assertTrue(actualOutput.get(3).succeeded());
+
+        verify(categoryGateway, times(1)).createAll(argThat(it -> it.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(it -> it.size() == 1));
+    }
+
+    @Test
+    void givenAChunkThatFailsToBeWritten_whenCallsCreateCategoriesBatch_thenShouldRetryItsItemsOneByOne() {
+        // Arrange
+        final var expectedErrorMessage = "Could not write the item";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, true),
+                CreateCategoryCommand.with("Animes", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException("Duplicate entry 'x' for key 'PRIMARY'"))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException("Duplicate entry 'x' for key 'PRIMARY'"));
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertTrue(actualOutput.get(0).succeeded());
+        Assertions.assertTrue(actualOutput.get(1).succeeded());
+        Assertions.assertTrue(actualOutput.get(2).succeeded());
+        Assertions.assertFalse(actualOutput.get(3).succeeded());
+        Assertions.assertEquals(List.of(expectedErrorMessage), actualOutput.get(3).errors().stream().map(Error::message).toList());
+
+        verify(categoryGateway, times(4)).createAll(any());
+    }
+
+    @Test
+    void givenADomainErrorWritingAnItem_whenCallsCreateCategoriesBatch_thenShouldReportItsErrors() {
+        // Arrange
+        final var expectedErrorMessage = "'name' already exists";
+        final var commands = List.of(CreateCategoryCommand.with("Filmes", null, true));
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertFalse(actualOutput.get(0).succeeded());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).errors().get(0).message());
+    }
+
+    @Test
+    void givenMoreCommandsThanTheMaximum_whenCallsCreateCategoriesBatch_thenShouldRefuseTheBatch() {
+        // Arrange
+        final var expectedErrorMessage = "A batch accepts at most 2 items, got 3";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, true)
+        );
+
+        useCase = new DefaultCreateCategoriesBatchUseCase(categoryGateway, 2, 2);
+
+        // Act
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(commands));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.errors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+}
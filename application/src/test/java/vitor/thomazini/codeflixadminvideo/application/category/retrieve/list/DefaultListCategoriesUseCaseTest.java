@@ -7,7 +7,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
-import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -22,11 +21,11 @@ class DefaultListCategoriesUseCaseTest extends UseCaseTest {
     private DefaultListCategoriesUseCase useCase;
 
     @Mock
-    private CategoryGateway categoryGateway;
+    private CategoryListGateway categoryListGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(categoryListGateway);
     }
 
     @Test
@@ -47,8 +46,8 @@ class DefaultListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResults = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(query))
-                .thenReturn(expectedPagination);
+        when(categoryListGateway.list(query))
+                .thenReturn(expectedPagination.map(CategoryListOutput::from));
 
         // Act
         final var actualResult = useCase.execute(query);
@@ -76,8 +75,8 @@ class DefaultListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResults = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(query))
-                .thenReturn(expectedPagination);
+        when(categoryListGateway.list(query))
+                .thenReturn(expectedPagination.map(CategoryListOutput::from));
 
         // Act
         final var actualResult = useCase.execute(query);
@@ -101,7 +100,7 @@ class DefaultListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedErrorMessage = "Gateway error";
         final var query = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(query))
+        when(categoryListGateway.list(query))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         // Act
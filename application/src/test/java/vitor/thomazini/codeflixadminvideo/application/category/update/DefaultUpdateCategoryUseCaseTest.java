@@ -11,7 +11,9 @@ import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.utils.InstantUtils;
 
 import java.util.List;
 import java.util.Objects;
@@ -20,6 +22,7 @@ import java.util.Optional;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
@@ -54,7 +57,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
 
         when(categoryGateway.findById(expectedId))
                 .thenReturn(Optional.of(Category.from(category)));
-        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(categoryGateway.update(any(), any())).thenAnswer(returnsFirstArg());
 
         // Act
         final var actualOutput = useCase.execute(command).get();
@@ -72,7 +75,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
                         && Objects.equals(category.createdAt(), updatedCategory.createdAt())
                         && category.updatedAt().isBefore(updatedCategory.updatedAt())
                         && Objects.isNull(updatedCategory.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -99,7 +102,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        verify(this.categoryGateway, times(0)).update(any());
+        verify(this.categoryGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -122,7 +125,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
         when(categoryGateway.findById(expectedId))
                 .thenReturn(Optional.of(Category.from(category)));
 
-        when(categoryGateway.update(any()))
+        when(categoryGateway.update(any(), any()))
                 .thenAnswer(returnsFirstArg());
 
         Assertions.assertTrue(category.isActive());
@@ -144,7 +147,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
                         && Objects.equals(category.createdAt(), updatedCategory.createdAt())
                         && category.updatedAt().isBefore(updatedCategory.updatedAt())
                         && Objects.nonNull(updatedCategory.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -169,7 +172,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
         when(categoryGateway.findById(expectedId))
                 .thenReturn(Optional.of(Category.from(category)));
 
-        when(this.categoryGateway.update(any()))
+        when(this.categoryGateway.update(any(), any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         // Act
@@ -188,7 +191,7 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
                         && Objects.equals(category.createdAt(), updatedCategory.createdAt())
                         && category.updatedAt().isBefore(updatedCategory.updatedAt())
                         && Objects.isNull(updatedCategory.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -219,6 +222,72 @@ class DefaultUpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
         verify(categoryGateway, times(1)).findById(CategoryId.from(expectedId));
-        verify(categoryGateway, times(0)).update(any());
+        verify(categoryGateway, times(0)).update(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenACommandWithAVersionNewerThanTheReadCopy_whenCallUpdateCategory_thenShouldLetTheGatewayCheckIt() {
+        // Arrange
+        final var category = Category.with(
+                CategoryId.from("123"),
+                "Film",
+                null,
+                true,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                null,
+                1
+        );
+        final var expectedVersion = 2L;
+
+        final var command = UpdateCategoryCommand.with("123", "Filmes", null, true, expectedVersion);
+
+        when(categoryGateway.findById(category.id()))
+                .thenReturn(Optional.of(Category.from(category)));
+        when(categoryGateway.update(any(), any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var actualOutput = useCase.execute(command).get();
+
+        // Assert
+        Assertions.assertEquals("123", actualOutput.id());
+        verify(categoryGateway, times(1)).update(any(), eq(expectedVersion));
+    }
+
+    @Test
+    void givenACommandWithoutVersion_whenCallUpdateCategory_thenShouldUpdateWhateverVersionIsStored() {
+        // Arrange
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.id().value(), "Filmes", null, true);
+
+        when(categoryGateway.findById(category.id()))
+                .thenReturn(Optional.of(Category.from(category)));
+        when(categoryGateway.update(any(), any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        useCase.execute(command);
+
+        // Assert
+        verify(categoryGateway, times(1)).update(any(), isNull());
+    }
+
+    @Test
+    void givenAConflictingUpdate_whenCallUpdateCategory_thenShouldThrowConflictException() {
+        // Arrange
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.id().value(), "Filmes", null, true, 0L);
+
+        when(categoryGateway.findById(category.id()))
+                .thenReturn(Optional.of(Category.from(category)));
+        when(categoryGateway.update(any(), any()))
+                .thenThrow(ConflictException.with(Category.class, category.id(), 0));
+
+        // Act
+        final Executable action = () -> useCase.execute(command);
+
+        // Assert
+        Assertions.assertThrows(ConflictException.class, action);
+    }
+}
@@ -1,11 +1,12 @@
 package vitor.thomazini.codeflixadminvideo.application.genre.create;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
@@ -20,7 +21,6 @@ import static org.mockito.Mockito.*;
 
 class DefaultCreateGenreUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateGenreUseCase useCase;
 
     @Mock
@@ -34,6 +34,11 @@ class DefaultCreateGenreUseCaseTest extends UseCaseTest {
         return List.of(categoryGateway, genreGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateGenreUseCase(new CategoryExistenceChecker(categoryGateway), genreGateway);
+    }
+
     @Test
     void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnGenreId() {
         // Arrange
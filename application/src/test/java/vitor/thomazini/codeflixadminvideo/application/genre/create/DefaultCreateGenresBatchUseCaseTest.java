@@ -0,0 +1,92 @@
+package vitor.thomazini.codeflixadminvideo.application.genre.create;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefaultCreateGenresBatchUseCaseTest extends UseCaseTest {
+
+    private DefaultCreateGenresBatchUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateGenresBatchUseCase(new CategoryExistenceChecker(categoryGateway), genreGateway, 100, 100);
+    }
+
+    @Test
+    void givenCommandsWithCategories_whenCallsCreateGenresBatch_thenShouldLookUpCategoriesOnceAndReportMissingOnes() {
+        // Arrange
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+        final var missing = CategoryId.from("789");
+
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, asString(List.of(filmes, series))),
+                CreateGenreCommand.with("Terror", true, asString(List.of(filmes, missing))),
+                CreateGenreCommand.with(" ", true, List.of())
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertTrue(actualOutput.get(0).succeeded());
+        Assertions.assertEquals(
+                "Some categories could not be found: 789",
+                actualOutput.get(1).errors().get(0).message()
+        );
+        Assertions.assertEquals("'name' should not be empty", actualOutput.get(2).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 1
+                        && Objects.equals("Ação", genres.get(0).name())
+                        && Objects.equals(List.of(filmes, series), genres.get(0).categories())
+        ));
+    }
+
+    @Test
+    void givenCommandsWithoutCategories_whenCallsCreateGenresBatch_thenShouldNotLookUpCategories() {
+        // Arrange
+        final var commands = List.of(CreateGenreCommand.with("Ação", true, List.of()));
+
+        when(genreGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var actualOutput = useCase.execute(commands);
+
+        // Assert
+        Assertions.assertTrue(actualOutput.get(0).succeeded());
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+}
@@ -7,7 +7,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
-import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
@@ -22,11 +21,11 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
     private DefaultListGenreUseCase useCase;
 
     @Mock
-    private GenreGateway genreGateway;
+    private GenreListGateway genreListGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(genreGateway);
+        return List.of(genreListGateway);
     }
 
     @Test
@@ -62,8 +61,8 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
                 expectedDirection
         );
 
-        when(genreGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(genreListGateway.list(any()))
+                .thenReturn(expectedPagination.map(GenreListOutput::from));
 
         // Act
         final var actualOutput = useCase.execute(query);
@@ -74,7 +73,7 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(genreGateway, times(1)).findAll(query);
+        verify(genreListGateway, times(1)).list(query);
     }
 
     @Test
@@ -105,8 +104,8 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
                 expectedDirection
         );
 
-        when(genreGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(genreListGateway.list(any()))
+                .thenReturn(expectedPagination.map(GenreListOutput::from));
 
         // Act
         final var actualOutput = useCase.execute(query);
@@ -117,7 +116,7 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(genreGateway, times(1)).findAll(query);
+        verify(genreListGateway, times(1)).list(query);
     }
 
     @Test
@@ -139,7 +138,7 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
                 expectedDirection
         );
 
-        when(genreGateway.findAll(any()))
+        when(genreListGateway.list(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         // Act
@@ -150,6 +149,6 @@ class DefaultListGenreUseCaseTest extends UseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(genreGateway, times(1)).findAll(query);
+        verify(genreListGateway, times(1)).list(query);
     }
 }
@@ -1,13 +1,16 @@
 package vitor.thomazini.codeflixadminvideo.application.genre.update;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import vitor.thomazini.codeflixadminvideo.application.Forks;
 import vitor.thomazini.codeflixadminvideo.application.UseCaseTest;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
@@ -22,7 +25,6 @@ import static org.mockito.Mockito.*;
 
 class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateGenreUseCase useCase;
 
     @Mock
@@ -36,6 +38,11 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
         return List.of(categoryGateway, genreGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultUpdateGenreUseCase(new CategoryExistenceChecker(categoryGateway), genreGateway);
+    }
+
     @Test
     void givenAValidCommand_whenCallsUpdateGenre_thenShouldReturnGenreId() {
         // Arrange
@@ -56,7 +63,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
         when(genreGateway.findById(any()))
                 .thenReturn(Optional.of(Genre.from(genre)));
 
-        when(genreGateway.update(any()))
+        when(genreGateway.update(any(), any()))
                 .thenAnswer(returnsFirstArg());
 
         // Act
@@ -75,7 +82,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
                         Objects.equals(genre.createdAt(), updatedGenre.createdAt()) &&
                         genre.updatedAt().isBefore(updatedGenre.updatedAt()) &&
                         Objects.isNull(updatedGenre.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -104,7 +111,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
         when(categoryGateway.existsByIds(any()))
                 .thenReturn(expectedCategories);
 
-        when(genreGateway.update(any()))
+        when(genreGateway.update(any(), any()))
                 .thenAnswer(returnsFirstArg());
 
         // Act
@@ -124,7 +131,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
                         Objects.equals(genre.createdAt(), updatedGenre.createdAt()) &&
                         genre.updatedAt().isBefore(updatedGenre.updatedAt()) &&
                         Objects.isNull(updatedGenre.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -147,7 +154,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
         when(genreGateway.findById(any()))
                 .thenReturn(Optional.of(Genre.from(genre)));
 
-        when(genreGateway.update(any()))
+        when(genreGateway.update(any(), any()))
                 .thenAnswer(returnsFirstArg());
 
         Assertions.assertTrue(genre.isActive());
@@ -169,7 +176,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
                         Objects.equals(genre.createdAt(), updatedGenre.createdAt()) &&
                         genre.updatedAt().isBefore(updatedGenre.updatedAt()) &&
                         Objects.nonNull(updatedGenre.deletedAt())
-        ));
+        ), any());
     }
 
     @Test
@@ -206,7 +213,7 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
 
         verify(genreGateway, times(1)).findById(expectedId);
         verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).update(any());
+        verify(genreGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -252,6 +259,39 @@ class DefaultUpdateGenreUseCaseTest extends UseCaseTest {
 
         verify(genreGateway, times(1)).findById(expectedId);
         verify(categoryGateway, times(1)).existsByIds(expectedCategories);
-        verify(genreGateway, times(0)).update(any());
+        verify(genreGateway, times(0)).update(any(), any());
+    }
+
+    @Test
+    void givenConcurrentForksAndAMissingGenre_whenCallsUpdateGenre_thenShouldReturnNotFoundException() {
+        // Arrange
+        final var movies = CategoryId.from("123");
+
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+
+        final var command = UpdateGenreCommand.with(expectedId, "Ação", true, asString(List.of(movies)));
+
+        useCase = new DefaultUpdateGenreUseCase(
+                new CategoryExistenceChecker(categoryGateway),
+                genreGateway,
+                Forks.concurrent()
+        );
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        lenient().when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(movies));
+
+        // Act
+        final Executable action = () -> useCase.execute(command);
+
+        // Assert
+        final var actualException = Assertions.assertThrows(NotFoundException.class, action);
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(genreGateway, times(0)).update(any(), any());
     }
 }
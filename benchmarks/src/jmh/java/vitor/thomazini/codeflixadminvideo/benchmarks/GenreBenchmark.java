@@ -0,0 +1,46 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenreBenchmark {
+
+    private Genre genre;
+    private List<CategoryId> categoryIds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.genre = Genre.newGenre("Ação", true);
+        this.categoryIds = IntStream.range(0, 10)
+                .mapToObj(it -> CategoryId.unique())
+                .toList();
+    }
+
+    @Benchmark
+    public Genre newGenre() {
+        return Genre.newGenre("Ação", true);
+    }
+
+    @Benchmark
+    public Object newGenreWithInvalidName() {
+        try {
+            return Genre.newGenre(" ", true);
+        } catch (final NotificationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Genre update() {
+        return this.genre.update("Terror", false, this.categoryIds);
+    }
+}
@@ -0,0 +1,43 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreJpaEntity;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenreJpaEntityBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int categories;
+
+    private Genre genre;
+    private GenreJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        this.genre = Genre.newGenre("Ação", true)
+                .addCategories(IntStream.range(0, this.categories).mapToObj(it -> CategoryId.unique()).toList());
+        this.entity = GenreJpaEntity.from(this.genre);
+    }
+
+    @Benchmark
+    public GenreJpaEntity from() {
+        return GenreJpaEntity.from(this.genre);
+    }
+
+    @Benchmark
+    public Genre toAggregate() {
+        return this.entity.toAggregate();
+    }
+
+    @Benchmark
+    public Genre roundTrip() {
+        return GenreJpaEntity.from(this.genre).toAggregate();
+    }
+}
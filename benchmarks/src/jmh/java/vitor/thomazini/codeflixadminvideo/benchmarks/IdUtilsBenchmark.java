@@ -0,0 +1,78 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IdUtils#uuid()} with the generators it replaced. Add {@code -Pjmh.profilers=gc} to see the bytes
+ * allocated per id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdUtilsBenchmark {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Benchmark
+    public String uuid() {
+        return IdUtils.uuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidContended() {
+        return IdUtils.uuid();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return randomUuidHex();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomUuidContended() {
+        return randomUuidHex();
+    }
+
+    @Benchmark
+    public String secureRandomV7() {
+        return secureRandomV7Hex();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String secureRandomV7Contended() {
+        return secureRandomV7Hex();
+    }
+
+    // the original generator: a random UUID and three string copies
+    private static String randomUuidHex() {
+        return UUID.randomUUID()
+                .toString()
+                .toLowerCase()
+                .replace("-", "");
+    }
+
+    // the first time-ordered generator: one shared SecureRandom and HexFormat
+    private static String secureRandomV7Hex() {
+        final var bytes = new byte[16];
+        SECURE_RANDOM.nextBytes(bytes);
+
+        final var millis = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) (millis >>> (40 - 8 * i));
+        }
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x70);
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80);
+
+        return HEX.formatHex(bytes);
+    }
+}
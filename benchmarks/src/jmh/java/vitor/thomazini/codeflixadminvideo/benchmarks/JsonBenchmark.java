@@ -0,0 +1,72 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryListResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreResponse;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+    private static final TypeReference<Pagination<CategoryListResponse>> CATEGORY_PAGE = new TypeReference<>() {
+    };
+
+    @Param({"10", "100"})
+    private int items;
+
+    private GenreResponse genre;
+    private String genreJson;
+    private Pagination<CategoryListResponse> categories;
+    private String categoriesJson;
+
+    @Setup
+    public void setUp() {
+        final var now = Instant.now();
+
+        this.genre = new GenreResponse(
+                IdUtils.uuid(),
+                "Ação",
+                IntStream.range(0, this.items).mapToObj(it -> IdUtils.uuid()).toList(),
+                true,
+                now,
+                now,
+                null,
+                0L
+        );
+        this.genreJson = Json.writeValue(this.genre);
+
+        this.categories = new Pagination<>(0, this.items, 1000, IntStream.range(0, this.items)
+                .mapToObj(it -> new CategoryListResponse(IdUtils.uuid(), "Filmes " + it, "A categoria mais assistida", true, now, null))
+                .toList());
+        this.categoriesJson = Json.writeValue(this.categories);
+    }
+
+    @Benchmark
+    public String writeGenre() {
+        return Json.writeValue(this.genre);
+    }
+
+    @Benchmark
+    public GenreResponse readGenre() {
+        return Json.readValue(this.genreJson, GenreResponse.class);
+    }
+
+    @Benchmark
+    public String writeCategoryPage() {
+        return Json.writeValue(this.categories);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> readCategoryPage() {
+        return Json.readValue(this.categoriesJson, CATEGORY_PAGE);
+    }
+}
@@ -0,0 +1,54 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    private static final Error ERROR = new Error("'name' should not be null");
+
+    @Param({"1", "10", "100"})
+    private int errors;
+
+    private Notification other;
+
+    @Setup
+    public void setUp() {
+        this.other = Notification.create();
+        for (int i = 0; i < this.errors; i++) {
+            this.other.append(ERROR);
+        }
+    }
+
+    @Benchmark
+    public Notification appendErrors() {
+        final var notification = Notification.create();
+        for (int i = 0; i < this.errors; i++) {
+            notification.append(ERROR);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification appendHandler() {
+        return Notification.create().append(this.other);
+    }
+
+    @Benchmark
+    public Notification validateThrowing() {
+        final var notification = Notification.create();
+        for (int i = 0; i < this.errors; i++) {
+            notification.validate(() -> {
+                throw DomainException.with(ERROR);
+            });
+        }
+        return notification;
+    }
+}
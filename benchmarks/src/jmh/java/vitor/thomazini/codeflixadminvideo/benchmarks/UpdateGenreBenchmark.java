@@ -0,0 +1,79 @@
+package vitor.thomazini.codeflixadminvideo.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import vitor.thomazini.codeflixadminvideo.application.Forks;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.DefaultUpdateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreCommand;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreOutput;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// gateways answer after a simulated round trip; the sample mode reports p50/p99 of each forks mode
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpdateGenreBenchmark {
+
+    @Param({"false", "true"})
+    private boolean concurrentForks;
+
+    @Param({"2"})
+    private long roundTripMillis;
+
+    private DefaultUpdateGenreUseCase useCase;
+    private UpdateGenreCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var genre = Genre.newGenre("Ação", true);
+        final var categoryIds = IntStream.range(0, 10)
+                .mapToObj(it -> CategoryId.unique())
+                .toList();
+
+        final GenreGateway genreGateway = gateway(GenreGateway.class, method -> switch (method) {
+            case "findById" -> Optional.of(Genre.from(genre));
+            case "update" -> genre;
+            default -> throw new UnsupportedOperationException(method);
+        });
+        final CategoryGateway categoryGateway = gateway(CategoryGateway.class, method -> switch (method) {
+            case "existsByIds" -> categoryIds;
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        this.useCase = new DefaultUpdateGenreUseCase(
+                new CategoryExistenceChecker(categoryGateway),
+                genreGateway,
+                Forks.of(this.concurrentForks)
+        );
+        this.command = UpdateGenreCommand.with(
+                genre.id().value(),
+                "Terror",
+                true,
+                categoryIds.stream().map(CategoryId::value).toList()
+        );
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UpdateGenreOutput update() {
+        return this.useCase.execute(this.command);
+    }
+
+    private <T> T gateway(final Class<T> type, final Function<String, Object> answers) {
+        final var roundTrip = TimeUnit.MILLISECONDS.toNanos(this.roundTripMillis);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            LockSupport.parkNanos(roundTrip);
+            return answers.apply(method.getName());
+        }));
+    }
+}
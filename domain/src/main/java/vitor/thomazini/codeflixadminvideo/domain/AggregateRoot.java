@@ -2,7 +2,19 @@ package vitor.thomazini.codeflixadminvideo.domain;
 
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+
     protected AggregateRoot(final ID id) {
+        this(id, 0);
+    }
+
+    protected AggregateRoot(final ID id, final long version) {
         super(id);
+        this.version = version;
+    }
+
+    // the version this instance was read at; the gateways bump it on each update and refuse stale ones
+    public long version() {
+        return this.version;
     }
 }
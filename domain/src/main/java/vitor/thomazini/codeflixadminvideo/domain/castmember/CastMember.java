@@ -19,9 +19,10 @@ public class CastMember extends AggregateRoot<CastMemberId> {
             final String aName,
             final CastMemberType aType,
             final Instant aCreationDate,
-            final Instant aUpdateDate
+            final Instant aUpdateDate,
+            final long aVersion
     ) {
-        super(anId);
+        super(anId, aVersion);
         this.name = aName;
         this.type = aType;
         this.createdAt = aCreationDate;
@@ -32,7 +33,7 @@ public class CastMember extends AggregateRoot<CastMemberId> {
     public static CastMember newCastMember(final String aName, final CastMemberType aType) {
         final var anId = CastMemberId.unique();
         final var now = InstantUtils.now();
-        return new CastMember(anId, aName, aType, now, now);
+        return new CastMember(anId, aName, aType, now, now, 0);
     }
 
     public static CastMember with(
@@ -42,16 +43,33 @@ public class CastMember extends AggregateRoot<CastMemberId> {
             final Instant aCreationDate,
             final Instant aUpdateDate
     ) {
-        return new CastMember(anId, aName, aType, aCreationDate, aUpdateDate);
+        return new CastMember(anId, aName, aType, aCreationDate, aUpdateDate, 0);
+    }
+
+    public static CastMember with(
+            final CastMemberId anId,
+            final String aName,
+            final CastMemberType aType,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final long aVersion
+    ) {
+        return new CastMember(anId, aName, aType, aCreationDate, aUpdateDate, aVersion);
     }
 
     public static CastMember with(final CastMember aMember) {
+        return with(aMember, aMember.version());
+    }
+
+    // a copy that expects the stored row to be at the given version
+    public static CastMember with(final CastMember aMember, final long aVersion) {
         return new CastMember(
                 aMember.id,
                 aMember.name,
                 aMember.type,
                 aMember.createdAt,
-                aMember.updatedAt
+                aMember.updatedAt,
+                aVersion
         );
     }
 
@@ -10,12 +10,22 @@ public interface CastMemberGateway {
 
     CastMember create(CastMember aCastMember);
 
+    List<CastMember> createAll(List<CastMember> aCastMembers);
+
     void deleteById(CastMemberId anId);
 
     Optional<CastMember> findById(CastMemberId anId);
 
+    List<CastMember> findByIds(Iterable<CastMemberId> ids);
+
+    // refuses the update unless the stored row is still at the aggregate's version; a missing row is not found
     CastMember update(CastMember aCastMember);
 
+    // refuses the update unless the stored row is at expectedVersion; a null expectedVersion overwrites any version
+    CastMember update(CastMember aCastMember, Long expectedVersion);
+
+    List<CastMember> updateAll(List<CastMember> aCastMembers);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
     List<CastMemberId> existsByIds(Iterable<CastMemberId> ids);
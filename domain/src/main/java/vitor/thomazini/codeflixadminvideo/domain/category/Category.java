@@ -1,6 +1,7 @@
 package vitor.thomazini.codeflixadminvideo.domain.category;
 
 import vitor.thomazini.codeflixadminvideo.domain.AggregateRoot;
+import vitor.thomazini.codeflixadminvideo.domain.utils.InstantUtils;
 import vitor.thomazini.codeflixadminvideo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
@@ -21,9 +22,10 @@ public class Category extends AggregateRoot<CategoryId> {
             final boolean isActive,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.description = description;
         this.isActive = isActive;
@@ -38,9 +40,9 @@ public class Category extends AggregateRoot<CategoryId> {
             final boolean isActive
     ) {
         final var id = CategoryId.unique();
-        final var now = Instant.now();
+        final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, name, description, isActive, now, now, deletedAt);
+        return new Category(id, name, description, isActive, now, now, deletedAt, 0);
     }
 
     public static Category with(
@@ -51,6 +53,19 @@ public class Category extends AggregateRoot<CategoryId> {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt
+    ) {
+        return with(id, name, description, isActive, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 id,
@@ -59,11 +74,17 @@ public class Category extends AggregateRoot<CategoryId> {
                 isActive,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
     public static Category from(final Category category) {
+        return from(category, category.version());
+    }
+
+    // a copy that expects the stored row to be at the given version
+    public static Category from(final Category category, final long version) {
         return new Category(
                 category.id(),
                 category.name(),
@@ -71,7 +92,8 @@ public class Category extends AggregateRoot<CategoryId> {
                 category.isActive(),
                 category.createdAt(),
                 category.updatedAt(),
-                category.deletedAt()
+                category.deletedAt(),
+                version
         );
     }
 
@@ -83,17 +105,17 @@ public class Category extends AggregateRoot<CategoryId> {
     public Category activate() {
         this.deletedAt = null;
         this.isActive = true;
-        this.updatedAt = Instant.now();
+        this.updatedAt = InstantUtils.now();
         return this;
     }
 
     public Category deactivate() {
         if (Objects.isNull(this.deletedAt())) {
-            this.deletedAt = Instant.now();
+            this.deletedAt = InstantUtils.now();
         }
 
         this.isActive = false;
-        this.updatedAt = Instant.now();
+        this.updatedAt = InstantUtils.now();
         return this;
     }
 
@@ -109,7 +131,7 @@ public class Category extends AggregateRoot<CategoryId> {
         }
         this.name = name;
         this.description = description;
-        this.updatedAt = Instant.now();
+        this.updatedAt = InstantUtils.now();
         return this;
     }
 
@@ -10,12 +10,22 @@ public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryId id);
 
     Optional<Category> findById(CategoryId id);
 
+    List<Category> findByIds(Iterable<CategoryId> ids);
+
+    // refuses the update unless the stored row is still at the aggregate's version; a missing row is not found
     Category update(Category category);
 
+    // refuses the update unless the stored row is at expectedVersion; a null expectedVersion overwrites any version
+    Category update(Category category, Long expectedVersion);
+
+    List<Category> updateAll(List<Category> categories);
+
     Pagination<Category> findAll(SearchQuery query);
 
     List<CategoryId> existsByIds(Iterable<CategoryId> ids);
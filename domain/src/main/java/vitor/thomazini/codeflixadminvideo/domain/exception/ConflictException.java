@@ -0,0 +1,28 @@
+package vitor.thomazini.codeflixadminvideo.domain.exception;
+
+import vitor.thomazini.codeflixadminvideo.domain.AggregateRoot;
+import vitor.thomazini.codeflixadminvideo.domain.Identifier;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> aggregate,
+            final Identifier id,
+            final long version
+    ) {
+        final var error = "%s with ID %s was changed since version %d".formatted(
+                aggregate.getSimpleName(),
+                id.value(),
+                version
+        );
+        return new ConflictException(error, Collections.emptyList());
+    }
+}
@@ -29,7 +29,20 @@ public class Genre extends AggregateRoot<GenreId> {
             final Instant updatedAt,
             final Instant deletedAt
     ) {
-        super(genreId);
+        this(genreId, name, active, categories, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public Genre(
+            final GenreId genreId,
+            final String name,
+            final boolean active,
+            final List<CategoryId> categories,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        super(genreId, version);
         this.name = name;
         this.active = active;
         this.categories = categories;
@@ -59,7 +72,25 @@ public class Genre extends AggregateRoot<GenreId> {
         return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt);
     }
 
+    public static Genre with(
+            final GenreId id,
+            final String name,
+            final boolean isActive,
+            final List<CategoryId> categories,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt, version);
+    }
+
     public static Genre from(final Genre genre) {
+        return from(genre, genre.version());
+    }
+
+    // a copy that expects the stored row to be at the given version
+    public static Genre from(final Genre genre, final long version) {
         return new Genre(
                 genre.id(),
                 genre.name(),
@@ -67,7 +98,8 @@ public class Genre extends AggregateRoot<GenreId> {
                 new ArrayList<>(genre.categories()),
                 genre.createdAt(),
                 genre.updatedAt(),
-                genre.deletedAt()
+                genre.deletedAt(),
+                version
         );
     }
 
@@ -3,17 +3,30 @@ package vitor.thomazini.codeflixadminvideo.domain.genre;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    List<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreId id);
 
     Optional<Genre> findById(GenreId id);
 
+    List<Genre> findByIds(Iterable<GenreId> ids);
+
+    // refuses the update unless the stored row is still at the aggregate's version; a missing row is not found
     Genre update(Genre genre);
 
+    // refuses the update unless the stored row is at expectedVersion; a null expectedVersion overwrites any version
+    Genre update(Genre genre, Long expectedVersion);
+
+    List<Genre> updateAll(List<Genre> genres);
+
     Pagination<Genre> findAll(SearchQuery query);
+
+    List<GenreId> existsByIds(Iterable<GenreId> ids);
 }
@@ -7,11 +7,18 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         List<R> newItems = this.items().stream()
                 .map(mapper).toList();
-        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), newItems);
+        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), newItems, this.nextCursor());
     }
-}
\ No newline at end of file
+}
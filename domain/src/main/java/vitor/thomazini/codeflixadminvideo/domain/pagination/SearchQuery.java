@@ -5,5 +5,34 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
-) {}
+        String direction,
+        String after,
+        boolean withTotal
+) {
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, true);
+    }
+
+    // an empty cursor starts a keyset traversal from the first row
+    public boolean isKeyset() {
+        return this.after != null;
+    }
+}
@@ -1,15 +1,54 @@
 package vitor.thomazini.codeflixadminvideo.domain.utils;
 
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class IdUtils {
 
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int HEX_LENGTH = 32;
+
     private IdUtils() {}
 
+    /**
+     * 128-bit id laid out as a UUIDv7: 48 bits of epoch millis, then the version, variant and 74 random bits. Ids
+     * sort by creation time, so primary key inserts land at the end of the index. Rendered as 32 lower-case hex digits.
+     * <p>
+     * The random bits come from {@link ThreadLocalRandom}, so concurrent callers never share a lock. They make ids
+     * unique, not secret, and must not be used as tokens.
+     */
     public static String uuid() {
-        return UUID.randomUUID()
-                .toString()
-                .toLowerCase()
-                .replace("-", "");
+        final var random = ThreadLocalRandom.current();
+        final var msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0fffL);
+        final var lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+        final var hex = new byte[HEX_LENGTH];
+        writeHex(msb, hex, 0);
+        writeHex(lsb, hex, HEX_LENGTH / 2);
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Whether the id has the shape {@link #uuid()} renders and the database stores: 32 lower-case hex digits.
+     */
+    public static boolean isValid(final String id) {
+        if (id == null || id.length() != HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            final var c = id.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeHex(final long value, final byte[] hex, final int offset) {
+        var remaining = value;
+        for (int i = offset + HEX_LENGTH / 2 - 1; i >= offset; i--) {
+            hex[i] = DIGITS[(int) remaining & 0x0f];
+            remaining >>>= 4;
+        }
     }
-}
\ No newline at end of file
+}
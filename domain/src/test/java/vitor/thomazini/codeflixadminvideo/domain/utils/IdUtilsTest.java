@@ -0,0 +1,59 @@
+package vitor.thomazini.codeflixadminvideo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import vitor.thomazini.codeflixadminvideo.domain.UnitTest;
+
+import java.util.HashSet;
+
+class IdUtilsTest extends UnitTest {
+
+    @Test
+    void givenANewId_whenCallsUuid_thenShouldBe32LowerCaseHexDigitsOfAVersion7Uuid() {
+        // Act
+        final var actualId = IdUtils.uuid();
+
+        // Assert
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"), actualId);
+        Assertions.assertEquals('7', actualId.charAt(12));
+        Assertions.assertTrue("89ab".indexOf(actualId.charAt(16)) >= 0, actualId);
+    }
+
+    @Test
+    void givenIdsCreatedInDifferentMillis_whenCompared_thenShouldSortByCreationTime() throws InterruptedException {
+        // Arrange
+        final var first = IdUtils.uuid();
+        Thread.sleep(2);
+
+        // Act
+        final var second = IdUtils.uuid();
+
+        // Assert
+        Assertions.assertTrue(first.compareTo(second) < 0, first + " " + second);
+    }
+
+    @Test
+    void givenManyIds_whenCallsUuid_thenShouldNotRepeat() {
+        // Arrange
+        final var ids = new HashSet<String>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(IdUtils.uuid());
+        }
+
+        // Assert
+        Assertions.assertEquals(10_000, ids.size());
+    }
+
+    @Test
+    void givenIdsOfEveryShape_whenCallsIsValid_thenShouldOnlyAcceptLowerCaseHexOf32Digits() {
+        // Assert
+        Assertions.assertTrue(IdUtils.isValid(IdUtils.uuid()));
+        Assertions.assertFalse(IdUtils.isValid(null));
+        Assertions.assertFalse(IdUtils.isValid("123"));
+        Assertions.assertFalse(IdUtils.isValid("0190f3a2-7c1e-7000-8000-000000000001"));
+        Assertions.assertFalse(IdUtils.isValid("0190F3A27C1E70008000000000000001"));
+        Assertions.assertFalse(IdUtils.isValid("0190f3a27c1e7000800000000000000g"));
+    }
+}
@@ -8,12 +8,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CastMemberListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CastMemberResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CreateCastMemberRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.UpdateCastMemberBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.UpdateCastMemberRequest;
 
+import java.util.List;
+
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
 public interface CastMemberAPI {
@@ -30,10 +35,48 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create cast members in batch",
+            description = "Items are validated one by one; the valid ones are created even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every item was created"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> createBatch(@RequestBody List<CreateCastMemberRequest> input);
+
+    @PutMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Update cast members in batch",
+            description = "Items are validated one by one; the valid ones are updated even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was updated"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> updateBatch(@RequestBody List<UpdateCastMemberBatchRequest> input);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "List all cast members")
+    @Operation(
+            summary = "List all cast members",
+            description = "Send 'with_total=false' to skip counting; the total is then -1 unless the last page was reached"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast members retrieved"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the sent ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     Pagination<CastMemberListResponse> list(
@@ -41,17 +84,20 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "with_total", required = false, defaultValue = "true") final boolean withTotal,
+            WebRequest request
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "The cast member did not change since the sent ETag"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable String id);
+    CastMemberResponse getById(@PathVariable String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -62,6 +108,7 @@ public interface CastMemberAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member updated"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
+            @ApiResponse(responseCode = "409", description = "The sent version is no longer the current one"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
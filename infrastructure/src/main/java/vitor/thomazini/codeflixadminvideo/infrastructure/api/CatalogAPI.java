@@ -0,0 +1,41 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.models.CatalogImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RequestMapping(value = "catalog")
+@Tag(name = "Catalog")
+public interface CatalogAPI {
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every category, genre and cast member as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @PostMapping(
+            value = "import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories, genres and cast members from newline-delimited JSON, as written by the export")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, the report lists the lines that failed"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<CatalogImportReport> importCatalog(InputStream body) throws IOException;
+}
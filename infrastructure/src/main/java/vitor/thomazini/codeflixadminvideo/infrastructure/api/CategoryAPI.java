@@ -8,12 +8,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CreateCategoryRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.UpdateCategoryBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.UpdateCategoryRequest;
 
+import java.util.List;
+
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
@@ -30,10 +35,48 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create categories in batch",
+            description = "Items are validated one by one; the valid ones are created even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every item was created"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PutMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Update categories in batch",
+            description = "Items are validated one by one; the valid ones are updated even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was updated"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> updateCategories(@RequestBody List<UpdateCategoryBatchRequest> input);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "List all categories paginated")
+    @Operation(
+            summary = "List all categories paginated",
+            description = "Send 'with_total=false' to skip counting; the total is then -1 unless the last page was reached"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the sent ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -42,7 +85,9 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "with_total", required = false, defaultValue = "true") final boolean withTotal,
+            WebRequest request
     );
 
     @GetMapping(
@@ -52,10 +97,11 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Created retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "The category did not change since the sent ETag"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    CategoryResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -66,6 +112,7 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Created updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "The sent version is no longer the current one"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     ResponseEntity<?> updateById(
@@ -0,0 +1,25 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ConnectionPoolStats;
+
+import java.util.List;
+
+@RequestMapping(value = "datasources")
+@Tag(name = "Data sources")
+public interface DataSourceAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the connection counters of the master and replica pools")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<ConnectionPoolStats> listPools();
+}
@@ -8,12 +8,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.CreateGenreRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.UpdateGenreBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.UpdateGenreRequest;
 
+import java.util.List;
+
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
 public interface GenreAPI {
@@ -30,10 +35,50 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create genres in batch",
+            description = "Items are validated one by one; the valid ones are created even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every item was created"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> createBatch(@RequestBody List<CreateGenreRequest> input);
+
+    @PutMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Update genres in batch",
+            description = "Items are validated one by one; the valid ones are updated even if others fail"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was updated"),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The batch has more items than batch.max-items"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<BatchItemOutput>> updateBatch(@RequestBody List<UpdateGenreBatchRequest> input);
+
     @GetMapping
-    @Operation(summary = "List all genres paginated")
+    @Operation(
+            summary = "List all genres paginated",
+            description = "Send 'after' (empty for the first page, then the returned 'next_cursor') to seek "
+                    + "instead of using 'page' offsets; the total is not computed in this mode. Send 'with_total=false' "
+                    + "to skip counting with offsets too; the total is then -1 unless the last page was reached"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the sent ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
@@ -42,7 +87,10 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "with_total", required = false, defaultValue = "true") final boolean withTotal,
+            WebRequest request
     );
 
     @GetMapping(
@@ -52,10 +100,11 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "The genre did not change since the sent ETag"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    GenreResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -66,6 +115,7 @@ public interface GenreAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "409", description = "The sent version is no longer the current one"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
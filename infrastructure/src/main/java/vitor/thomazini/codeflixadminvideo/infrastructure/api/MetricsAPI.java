@@ -0,0 +1,52 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.AdmissionStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.PinningStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRouteStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.UseCaseStats;
+
+import java.util.List;
+
+@RequestMapping(value = "metrics")
+@Tag(name = "Metrics")
+public interface MetricsAPI {
+
+    @GetMapping(value = "use-cases", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the latency histogram, error and in-flight counters of every use case")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<UseCaseStats> listUseCases();
+
+    @GetMapping(value = "sql", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the statements, JDBC time and rows per request of every route")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<SqlRouteStats> listSqlRoutes();
+
+    @GetMapping(value = "admission", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the permits, queue and shedding counters of the database admission control")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    AdmissionStats getAdmission();
+
+    @GetMapping(value = "pinning", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get how often virtual threads pinned their carrier thread, and where")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    PinningStats getPinning();
+}
@@ -0,0 +1,17 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+
+import java.util.List;
+
+final class BatchResponse {
+
+    private BatchResponse() {}
+
+    static ResponseEntity<List<BatchItemOutput>> of(final List<BatchItemOutput> output, final HttpStatus onSuccess) {
+        final var status = output.stream().allMatch(BatchItemOutput::succeeded) ? onSuccess : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(output);
+    }
+}
@@ -0,0 +1,26 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
+
+import org.springframework.web.bind.annotation.RestController;
+import vitor.thomazini.codeflixadminvideo.infrastructure.api.CacheAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.CacheStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private final List<ReadThroughCache<?, ?>> caches;
+
+    public CacheController(final List<ReadThroughCache<?, ?>> caches) {
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Override
+    public List<CacheStats> listCaches() {
+        return this.caches.stream()
+                .map(ReadThroughCache::stats)
+                .toList();
+    }
+}
@@ -1,47 +1,67 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMemberCommand;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.delete.DeleteCastMemberUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMemberCommand;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.api.CastMemberAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CastMemberListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CastMemberResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CreateCastMemberRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.UpdateCastMemberBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.presenter.CastMemberPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.ETagUtils;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
+    private static final String AGGREGATE_TYPE = "cast_member";
+
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final CreateCastMembersBatchUseCase createCastMembersBatchUseCase;
+    private final UpdateCastMembersBatchUseCase updateCastMembersBatchUseCase;
+    private final ListVersions listVersions;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final CreateCastMembersBatchUseCase createCastMembersBatchUseCase,
+            final UpdateCastMembersBatchUseCase updateCastMembersBatchUseCase,
+            final ListVersions listVersions
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.createCastMembersBatchUseCase = Objects.requireNonNull(createCastMembersBatchUseCase);
+        this.updateCastMembersBatchUseCase = Objects.requireNonNull(updateCastMembersBatchUseCase);
+        this.listVersions = Objects.requireNonNull(listVersions);
     }
 
     @Override
@@ -53,27 +73,56 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
     }
 
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> createBatch(final List<CreateCastMemberRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> CreateCastMemberCommand.with(it.name(), it.type()))
+                .toList();
+
+        return BatchResponse.of(this.createCastMembersBatchUseCase.execute(aCommands), HttpStatus.CREATED);
+    }
+
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> updateBatch(final List<UpdateCastMemberBatchRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> UpdateCastMemberCommand.with(it.id(), it.name(), it.type(), it.version()))
+                .toList();
+
+        return BatchResponse.of(this.updateCastMembersBatchUseCase.execute(aCommands), HttpStatus.OK);
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final boolean withTotal,
+            final WebRequest request
     ) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+        final var etag = this.listVersions.etag(AGGREGATE_TYPE);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, null, withTotal);
         return this.listCastMembersUseCase.execute(aQuery)
                 .map(CastMemberPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public CastMemberResponse getById(final String id, final WebRequest request) {
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+        if (request.checkNotModified(ETagUtils.of(output.updatedAt()))) {
+            return null;
+        }
+        return CastMemberPresenter.present(output);
     }
 
     @Override
     public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest aBody) {
-        final var aCommand = UpdateCastMemberCommand.with(id, aBody.name(), aBody.type());
+        final var aCommand = UpdateCastMemberCommand.with(id, aBody.name(), aBody.type(), aBody.version());
 
         final var output = this.updateCastMemberUseCase.execute(aCommand);
 
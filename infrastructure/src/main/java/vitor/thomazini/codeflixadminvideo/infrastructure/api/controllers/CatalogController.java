@@ -0,0 +1,38 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import vitor.thomazini.codeflixadminvideo.infrastructure.api.CatalogAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.CatalogExporter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.CatalogImporter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.models.CatalogImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+@RestController
+public class CatalogController implements CatalogAPI {
+
+    private final CatalogExporter catalogExporter;
+    private final CatalogImporter catalogImporter;
+
+    public CatalogController(final CatalogExporter catalogExporter, final CatalogImporter catalogImporter) {
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
+        this.catalogImporter = Objects.requireNonNull(catalogImporter);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.catalogExporter::export);
+    }
+
+    @Override
+    public ResponseEntity<CatalogImportReport> importCatalog(final InputStream body) throws IOException {
+        return ResponseEntity.ok(this.catalogImporter.importFrom(body));
+    }
+}
@@ -1,13 +1,18 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryCommand;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryOutput;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.delete.DeleteCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryCommand;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryOutput;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryUseCase;
@@ -15,37 +20,52 @@ import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
 import vitor.thomazini.codeflixadminvideo.infrastructure.api.CategoryAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CreateCategoryRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.UpdateCategoryBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.UpdateCategoryRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.presenters.CategoryApiPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.ETagUtils;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
+    private static final String AGGREGATE_TYPE = "category";
+
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final CreateCategoriesBatchUseCase createCategoriesBatchUseCase;
+    private final UpdateCategoriesBatchUseCase updateCategoriesBatchUseCase;
+    private final ListVersions listVersions;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final CreateCategoriesBatchUseCase createCategoriesBatchUseCase,
+            final UpdateCategoriesBatchUseCase updateCategoriesBatchUseCase,
+            final ListVersions listVersions
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.createCategoriesBatchUseCase = Objects.requireNonNull(createCategoriesBatchUseCase);
+        this.updateCategoriesBatchUseCase = Objects.requireNonNull(updateCategoriesBatchUseCase);
+        this.listVersions = Objects.requireNonNull(listVersions);
     }
 
     @Override
@@ -66,24 +86,62 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateCategoryCommand.with(
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true
+                ))
+                .toList();
+
+        return BatchResponse.of(this.createCategoriesBatchUseCase.execute(commands), HttpStatus.CREATED);
+    }
+
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> updateCategories(final List<UpdateCategoryBatchRequest> input) {
+        final var commands = input.stream()
+                .map(it -> UpdateCategoryCommand.with(
+                        it.id(),
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true,
+                        it.version()
+                ))
+                .toList();
+
+        return BatchResponse.of(this.updateCategoriesBatchUseCase.execute(commands), HttpStatus.OK);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final boolean withTotal,
+            final WebRequest request
     ) {
-        final var searchQuery = new SearchQuery(page, perPage, search, sort, direction);
+        // the version is read before the query, so a write committed in between only makes the tag stale
+        final var etag = this.listVersions.etag(AGGREGATE_TYPE);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
+        final var searchQuery = new SearchQuery(page, perPage, search, sort, direction, null, withTotal);
         return this.listCategoriesUseCase.execute(searchQuery)
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present
-                .compose(this.getCategoryByIdUseCase::execute)
-                .apply(id);
+    public CategoryResponse getById(final String id, final WebRequest request) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+        if (request.checkNotModified(ETagUtils.of(output.updatedAt()))) {
+            return null;
+        }
+        return CategoryApiPresenter.present.apply(output);
     }
 
     @Override
@@ -92,7 +150,8 @@ public class CategoryController implements CategoryAPI {
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                input.version()
         );
 
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
@@ -0,0 +1,24 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
+
+import org.springframework.web.bind.annotation.RestController;
+import vitor.thomazini.codeflixadminvideo.infrastructure.api.DataSourceAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ConnectionPoolStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.PoolMetrics;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class DataSourceController implements DataSourceAPI {
+
+    private final PoolMetrics poolMetrics;
+
+    public DataSourceController(final PoolMetrics poolMetrics) {
+        this.poolMetrics = Objects.requireNonNull(poolMetrics);
+    }
+
+    @Override
+    public List<ConnectionPoolStats> listPools() {
+        return this.poolMetrics.stats();
+    }
+}
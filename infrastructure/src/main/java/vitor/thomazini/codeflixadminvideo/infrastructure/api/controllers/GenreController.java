@@ -1,47 +1,67 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenreCommand;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.delete.DeleteGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.ListGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreCommand;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.api.GenreAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.CreateGenreRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreListResponse;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.UpdateGenreBatchRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.UpdateGenreRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.presenters.GenreApiPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.ETagUtils;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class GenreController implements GenreAPI {
 
+    private static final String AGGREGATE_TYPE = "genre";
+
     private final CreateGenreUseCase createGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final CreateGenresBatchUseCase createGenresBatchUseCase;
+    private final UpdateGenresBatchUseCase updateGenresBatchUseCase;
+    private final ListVersions listVersions;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final ListGenreUseCase listGenreUseCase,
-            final UpdateGenreUseCase updateGenreUseCase
+            final UpdateGenreUseCase updateGenreUseCase,
+            final CreateGenresBatchUseCase createGenresBatchUseCase,
+            final UpdateGenresBatchUseCase updateGenresBatchUseCase,
+            final ListVersions listVersions
     ) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
+        this.createGenresBatchUseCase = Objects.requireNonNull(createGenresBatchUseCase);
+        this.updateGenresBatchUseCase = Objects.requireNonNull(updateGenresBatchUseCase);
+        this.listVersions = Objects.requireNonNull(listVersions);
     }
 
     @Override
@@ -57,22 +77,53 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
     }
 
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> createBatch(final List<CreateGenreRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateGenreCommand.with(it.name(), it.isActive(), it.categories()))
+                .toList();
+
+        return BatchResponse.of(this.createGenresBatchUseCase.execute(commands), HttpStatus.CREATED);
+    }
+
+    @Override
+    public ResponseEntity<List<BatchItemOutput>> updateBatch(final List<UpdateGenreBatchRequest> input) {
+        final var commands = input.stream()
+                .map(it -> UpdateGenreCommand.with(it.id(), it.name(), it.isActive(), it.categories(), it.version()))
+                .toList();
+
+        return BatchResponse.of(this.updateGenresBatchUseCase.execute(commands), HttpStatus.OK);
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final boolean withTotal,
+            final WebRequest request
     ) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+        final var etag = this.listVersions.etag(AGGREGATE_TYPE);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, withTotal);
         return this.listGenreUseCase.execute(aQuery)
                 .map(GenreApiPresenter::present);
     }
 
+    // deleting a category drops it from its genres without touching their updatedAt, so the tag covers the ids too
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public GenreResponse getById(final String id, final WebRequest request) {
+        final var output = this.getGenreByIdUseCase.execute(id);
+        if (request.checkNotModified(ETagUtils.of(output.updatedAt(), output.categories()))) {
+            return null;
+        }
+        return GenreApiPresenter.present(output);
     }
 
     @Override
@@ -81,7 +132,8 @@ public class GenreController implements GenreAPI {
                 id,
                 input.name(),
                 input.isActive(),
-                input.categories()
+                input.categories(),
+                input.version()
         );
         final var output = this.updateGenreUseCase.execute(aCommand);
         return ResponseEntity.ok(output);
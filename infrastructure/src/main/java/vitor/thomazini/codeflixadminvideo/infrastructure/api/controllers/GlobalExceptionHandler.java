@@ -1,12 +1,15 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.AdmissionRejectedException;
 
 import java.util.List;
 
@@ -20,6 +23,21 @@ public class GlobalExceptionHandler {
                 .body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = AdmissionRejectedException.class)
+    public ResponseEntity<?> handleAdmissionRejectedException(final AdmissionRejectedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity
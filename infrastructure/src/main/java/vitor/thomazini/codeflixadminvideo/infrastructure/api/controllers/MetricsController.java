@@ -0,0 +1,56 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api.controllers;
+
+import org.springframework.web.bind.annotation.RestController;
+import vitor.thomazini.codeflixadminvideo.infrastructure.api.MetricsAPI;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.AdmissionStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.DbAdmission;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.PinningMonitor;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.PinningStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRequestMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRouteStats;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.UseCaseMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.UseCaseStats;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class MetricsController implements MetricsAPI {
+
+    private final UseCaseMetrics useCaseMetrics;
+    private final SqlRequestMetrics sqlRequestMetrics;
+    private final DbAdmission dbAdmission;
+    private final PinningMonitor pinningMonitor;
+
+    public MetricsController(
+            final UseCaseMetrics useCaseMetrics,
+            final SqlRequestMetrics sqlRequestMetrics,
+            final DbAdmission dbAdmission,
+            final PinningMonitor pinningMonitor
+    ) {
+        this.useCaseMetrics = Objects.requireNonNull(useCaseMetrics);
+        this.sqlRequestMetrics = Objects.requireNonNull(sqlRequestMetrics);
+        this.dbAdmission = Objects.requireNonNull(dbAdmission);
+        this.pinningMonitor = Objects.requireNonNull(pinningMonitor);
+    }
+
+    @Override
+    public List<UseCaseStats> listUseCases() {
+        return this.useCaseMetrics.stats();
+    }
+
+    @Override
+    public List<SqlRouteStats> listSqlRoutes() {
+        return this.sqlRequestMetrics.stats();
+    }
+
+    @Override
+    public AdmissionStats getAdmission() {
+        return this.dbAdmission.stats();
+    }
+
+    @Override
+    public PinningStats getPinning() {
+        return this.pinningMonitor.stats();
+    }
+}
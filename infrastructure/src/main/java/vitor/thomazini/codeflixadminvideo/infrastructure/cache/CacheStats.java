@@ -0,0 +1,10 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.cache;
+
+public record CacheStats(
+        String name,
+        long hits,
+        long misses,
+        long evictions,
+        long size
+) {
+}
@@ -0,0 +1,74 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of each aggregate type's list pages, used as their ETags. A version moves only once the transaction that
+ * changed the type commits, so a page read before the commit never carries the new version.
+ * <p>
+ * Tags also carry a random start value, which keeps a restarted process from reusing old tags, and the current TTL
+ * window, so writes made by other instances show up within the same bound as the read-through caches. A zero TTL
+ * disables them.
+ */
+public final class ListVersions {
+
+    private final long ttlMillis;
+    private final String start;
+    private final Map<String, AtomicLong> versions;
+
+    public ListVersions(final Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.start = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        this.versions = new ConcurrentHashMap<>();
+    }
+
+    public Optional<String> etag(final String aggregateType) {
+        if (this.ttlMillis <= 0) {
+            return Optional.empty();
+        }
+        final var window = System.currentTimeMillis() / this.ttlMillis;
+        return Optional.of("\"%s-%x-%x\"".formatted(this.start, window, versionOf(aggregateType).get()));
+    }
+
+    public void changed(final String aggregateType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versionOf(aggregateType).incrementAndGet();
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(afterCommit(pending));
+        }
+        pending.add(aggregateType);
+    }
+
+    private TransactionSynchronization afterCommit(final Set<String> types) {
+        return new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ListVersions.this);
+                if (status == STATUS_COMMITTED) {
+                    types.forEach(it -> versionOf(it).incrementAndGet());
+                }
+            }
+        };
+    }
+
+    private AtomicLong versionOf(final String aggregateType) {
+        return this.versions.computeIfAbsent(aggregateType, it -> new AtomicLong());
+    }
+}
@@ -0,0 +1,142 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded LRU cache with a time to live. Only present values are kept, so lookups of missing keys always reach the
+ * loader. A zero size or TTL disables it.
+ */
+public final class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+    private final ReentrantLock lock;
+    private final AtomicLong generation;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public ReadThroughCache(final String name, final int maxSize, final Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    ReadThroughCache(final String name, final int maxSize, final Duration ttl, final LongSupplier clock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.lock = new ReentrantLock();
+        this.generation = new AtomicLong();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public Optional<V> get(final K key, final Function<K, Optional<V>> loader) {
+        if (this.maxSize <= 0 || this.ttlNanos <= 0) {
+            this.misses.increment();
+            return loader.apply(key);
+        }
+
+        final var cached = lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+            return Optional.of(cached);
+        }
+
+        this.misses.increment();
+        final var generation = this.generation.get();
+        final var loaded = loader.apply(key);
+        loaded.ifPresent(value -> store(key, value, generation));
+        return loaded;
+    }
+
+    public void invalidate(final K key) {
+        this.lock.lock();
+        try {
+            this.generation.incrementAndGet();
+            this.entries.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            this.generation.incrementAndGet();
+            this.entries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        this.lock.lock();
+        try {
+            return new CacheStats(
+                    this.name,
+                    this.hits.sum(),
+                    this.misses.sum(),
+                    this.evictions.sum(),
+                    this.entries.size()
+            );
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private V lookup(final K key) {
+        this.lock.lock();
+        try {
+            final var entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (this.clock.getAsLong() - entry.storedAt() >= this.ttlNanos) {
+                this.entries.remove(key);
+                this.evictions.increment();
+                return null;
+            }
+            return entry.value();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // a load that raced with an invalidation may have read the old row, so it is not kept
+    private void store(final K key, final V value, final long generation) {
+        this.lock.lock();
+        try {
+            if (generation != this.generation.get()) {
+                return;
+            }
+
+            this.entries.put(key, new Entry<>(value, this.clock.getAsLong()));
+
+            final var eldest = this.entries.keySet().iterator();
+            while (this.entries.size() > this.maxSize) {
+                eldest.next();
+                eldest.remove();
+                this.evictions.increment();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
@@ -0,0 +1,103 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.castmember;
+
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway castMemberGateway;
+    private final ReadThroughCache<CastMemberId, CastMember> castMemberCache;
+    private final boolean cachedReads;
+
+    public CachedCastMemberGateway(
+            final CastMemberGateway castMemberGateway,
+            final ReadThroughCache<CastMemberId, CastMember> castMemberCache
+    ) {
+        this(castMemberGateway, castMemberCache, true);
+    }
+
+    private CachedCastMemberGateway(
+            final CastMemberGateway castMemberGateway,
+            final ReadThroughCache<CastMemberId, CastMember> castMemberCache,
+            final boolean cachedReads
+    ) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.castMemberCache = Objects.requireNonNull(castMemberCache);
+        this.cachedReads = cachedReads;
+    }
+
+    // writes still invalidate the cache; only findById skips it
+    public CachedCastMemberGateway uncachedReads() {
+        return new CachedCastMemberGateway(this.castMemberGateway, this.castMemberCache, false);
+    }
+
+    @Override
+    public CastMember create(final CastMember aCastMember) {
+        return this.castMemberGateway.create(aCastMember);
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        return this.castMemberGateway.createAll(aCastMembers);
+    }
+
+    @Override
+    public void deleteById(final CastMemberId anId) {
+        this.castMemberGateway.deleteById(anId);
+        this.castMemberCache.invalidate(anId);
+    }
+
+    // aggregates are mutable, so the cache never hands out the instance it keeps
+    @Override
+    public Optional<CastMember> findById(final CastMemberId anId) {
+        if (!this.cachedReads) {
+            return this.castMemberGateway.findById(anId);
+        }
+        return this.castMemberCache.get(anId, it -> this.castMemberGateway.findById(it).map(CastMember::with))
+                .map(CastMember::with);
+    }
+
+    @Override
+    public List<CastMember> findByIds(final Iterable<CastMemberId> ids) {
+        return this.castMemberGateway.findByIds(ids);
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember) {
+        return update(aCastMember, aCastMember.version());
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember, final Long expectedVersion) {
+        try {
+            return this.castMemberGateway.update(aCastMember, expectedVersion);
+        } finally {
+            this.castMemberCache.invalidate(aCastMember.id());
+        }
+    }
+
+    @Override
+    public List<CastMember> updateAll(final List<CastMember> aCastMembers) {
+        final var updated = this.castMemberGateway.updateAll(aCastMembers);
+        aCastMembers.forEach(it -> this.castMemberCache.invalidate(it.id()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.castMemberGateway.findAll(aQuery);
+    }
+
+    @Override
+    public List<CastMemberId> existsByIds(final Iterable<CastMemberId> ids) {
+        return this.castMemberGateway.existsByIds(ids);
+    }
+}
@@ -1,42 +1,119 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.castmember;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.CastMemberOutput;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.CastMemberListGateway;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.CastMemberListOutput;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberListRow;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
-import vitor.thomazini.codeflixadminvideo.infrastructure.utils.SpecificationUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.presenter.CastMemberPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.Outbox;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.OutboxEvent;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.QueryPlans;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.SortableTable;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchableEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.CountCache;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 @Component
-public class CastMemberMySQLGateway implements CastMemberGateway {
+public class CastMemberMySQLGateway implements CastMemberGateway, CastMemberListGateway {
+
+    private static final String AGGREGATE_TYPE = "cast_member";
+
+    public static final SortableTable SORTABLE = new SortableTable(
+            "cast_members",
+            Map.of("name", "name", "type", "type", "createdAt", "created_at")
+    );
+
+    private static final QueryPlans<CastMemberJpaEntity, CastMemberListRow> PLANS = new QueryPlans<>(
+            CastMemberJpaEntity.class,
+            CastMemberListRow.class,
+            CastMemberListRow.ATTRIBUTES,
+            SORTABLE
+    );
+
+    private static final SearchableEntity<CastMemberJpaEntity> SEARCHABLE = new SearchableEntity<>(
+            CastMemberJpaEntity.class,
+            CastMemberJpaEntity::getId,
+            List.of("name"),
+            it -> List.of(it.getName())
+    );
 
     private final CastMemberRepository castMemberRepository;
+    private final SearchBackend searchBackend;
+    private final EntityManager entityManager;
+    private final Outbox outbox;
+    private final CountCache counts;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final SearchBackend searchBackend,
+            final EntityManager entityManager,
+            final Outbox outbox,
+            @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.searchBackend = Objects.requireNonNull(searchBackend);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.counts = new CountCache(countCacheTtl);
     }
 
     @Override
+    @Transactional
     public CastMember create(final CastMember aCastMember) {
-        return save(aCastMember);
+        return save(aCastMember, OutboxEvent.Type.CREATED);
     }
 
+    // persist skips the select that save issues for entities with assigned ids, so the inserts can be batched
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        final var entities = aCastMembers.stream()
+                .map(CastMemberJpaEntity::from)
+                .toList();
+        entities.forEach(this.entityManager::persist);
+        this.counts.invalidate();
+
+        final var created = entities.stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+        created.forEach(it -> record(it, OutboxEvent.Type.CREATED));
+        return created;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberId aMemberId) {
         final var anId = aMemberId.value();
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.outbox.append(AGGREGATE_TYPE, anId, OutboxEvent.Type.DELETED, null);
+            this.counts.invalidate();
         }
     }
 
@@ -47,31 +124,138 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    public List<CastMember> findByIds(final Iterable<CastMemberId> castMemberIds) {
+        final var ids = StreamSupport.stream(castMemberIds.spliterator(), false)
+                .map(CastMemberId::value)
+                .toList();
+        return this.castMemberRepository.findAllById(ids).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public CastMember update(final CastMember aCastMember) {
-        return save(aCastMember);
+        return update(aCastMember, aCastMember.version());
+    }
+
+    @Override
+    @Transactional
+    public CastMember update(final CastMember aCastMember, final Long expectedVersion) {
+        final var entity = CastMemberJpaEntity.from(aCastMember);
+        final var updatedRows = this.castMemberRepository.updateIfVersion(
+                entity.getId(),
+                expectedVersion,
+                entity.getName(),
+                entity.getType(),
+                entity.getUpdatedAt()
+        );
+
+        // no row matched: it is a conflict only when the row is still there under another version
+        if (updatedRows == 0 && (expectedVersion == null || !this.castMemberRepository.existsById(entity.getId()))) {
+            throw NotFoundException.with(CastMember.class, aCastMember.id());
+        }
+        if (updatedRows == 0) {
+            throw ConflictException.with(CastMember.class, aCastMember.id(), expectedVersion);
+        }
+
+        entity.setVersion(expectedVersion == null ? this.castMemberRepository.findVersionById(entity.getId()) : expectedVersion + 1);
+        this.searchBackend.updated(SEARCHABLE, entity);
+        final var updated = entity.toAggregate();
+        record(updated, OutboxEvent.Type.UPDATED);
+        this.counts.invalidate();
+        return updated;
+    }
+
+    // the rows are loaded with a single select first, so merging them does not read each one again
+    @Override
+    @Transactional
+    public List<CastMember> updateAll(final List<CastMember> aCastMembers) {
+        final var anIds = aCastMembers.stream().map(it -> it.id().value()).toList();
+        final var stored = this.castMemberRepository.findAllById(anIds).stream()
+                .collect(Collectors.toMap(CastMemberJpaEntity::getId, CastMemberJpaEntity::getVersion));
+
+        for (final var aMember : aCastMembers) {
+            final var version = stored.get(aMember.id().value());
+            if (version == null) {
+                throw NotFoundException.with(CastMember.class, aMember.id());
+            }
+            if (version != aMember.version()) {
+                throw ConflictException.with(CastMember.class, aMember.id(), aMember.version());
+            }
+        }
+
+        final var merged = aCastMembers.stream()
+                .map(CastMemberJpaEntity::from)
+                .map(this.entityManager::merge)
+                .toList();
+        this.entityManager.flush();
+
+        final var updated = merged.stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+        updated.forEach(it -> record(it, OutboxEvent.Type.UPDATED));
+        this.counts.invalidate();
+        return updated;
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        final var plan = PLANS.plan(aQuery);
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), plan.sort());
+
+        final var specification = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (specification == null) {
+            final var slice = PLANS.page(this.entityManager, plan, page.getOffset(), page.getPageSize());
+            return new Pagination<>(
+                    page.getPageNumber(),
+                    page.getPageSize(),
+                    this.counts.totalOf(aQuery, page.getOffset(), slice, () -> PLANS.count(this.entityManager)),
+                    slice.map(CastMemberJpaEntity::toAggregate).getContent()
+            );
+        }
+
+        final var where = Specification.where(specification);
+
+        final Window<CastMemberJpaEntity> slice = this.castMemberRepository.findBy(
+                where,
+                (FluentQuery.FetchableFluentQuery<CastMemberJpaEntity> it) -> it.sortBy(page.getSort())
+                        .limit(page.getPageSize())
+                        .scroll(ScrollPosition.offset(page.getOffset()))
+        );
+
+        return new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(aQuery, page.getOffset(), slice, () -> this.castMemberRepository.count(where)),
+                slice.map(CastMemberJpaEntity::toAggregate).getContent()
         );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CastMemberListOutput> list(final SearchQuery aQuery) {
+        final var plan = PLANS.plan(aQuery);
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), plan.sort());
 
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
+        final var slice = PLANS.rows(this.entityManager, plan, where, page.getOffset(), page.getPageSize());
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(aQuery, page.getOffset(), slice, () -> where == null
+                        ? PLANS.count(this.entityManager)
+                        : this.castMemberRepository.count(where)),
+                slice.map(CastMemberListRow::toOutput).getContent()
         );
     }
 
@@ -85,12 +269,19 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .toList();
     }
 
-    private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
+    private CastMember save(final CastMember aCastMember, final OutboxEvent.Type aType) {
+        final var saved = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
                 .toAggregate();
+        record(saved, aType);
+        this.counts.invalidate();
+        return saved;
+    }
+
+    private void record(final CastMember aMember, final OutboxEvent.Type aType) {
+        this.outbox.append(AGGREGATE_TYPE, aMember.id().value(), aType, CastMemberPresenter.present(CastMemberOutput.from(aMember)));
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.searchBackend.matching(SEARCHABLE, terms);
     }
 }
\ No newline at end of file
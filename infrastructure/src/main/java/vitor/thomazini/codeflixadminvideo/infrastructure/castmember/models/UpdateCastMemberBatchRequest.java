@@ -0,0 +1,6 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models;
+
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+
+public record UpdateCastMemberBatchRequest(String id, String name, CastMemberType type, Long version) {
+}
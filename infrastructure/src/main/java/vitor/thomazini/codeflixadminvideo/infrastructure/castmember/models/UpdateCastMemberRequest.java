@@ -2,5 +2,9 @@ package vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models;
 
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
 
-public record UpdateCastMemberRequest(String name, CastMemberType type) {
+public record UpdateCastMemberRequest(String name, CastMemberType type, Long version) {
+
+    public UpdateCastMemberRequest(final String name, final CastMemberType type) {
+        this(name, type, null);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
 
 import java.time.Instant;
 
@@ -12,6 +14,7 @@ import java.time.Instant;
 public class CastMemberJpaEntity {
 
     @Id
+    @Type(BinaryIdType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -27,6 +30,10 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CastMemberJpaEntity() {
     }
 
@@ -35,13 +42,15 @@ public class CastMemberJpaEntity {
             final String name,
             final CastMemberType type,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public static CastMemberJpaEntity from(final CastMember aMember) {
@@ -50,7 +59,8 @@ public class CastMemberJpaEntity {
                 aMember.name(),
                 aMember.type(),
                 aMember.createdAt(),
-                aMember.updatedAt()
+                aMember.updatedAt(),
+                aMember.version()
         );
     }
 
@@ -60,7 +70,8 @@ public class CastMemberJpaEntity {
                 getName(),
                 getType(),
                 getCreatedAt(),
-                getUpdatedAt()
+                getUpdatedAt(),
+                getVersion()
         );
     }
 
@@ -108,4 +119,13 @@ public class CastMemberJpaEntity {
         this.updatedAt = updatedAt;
         return this;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public CastMemberJpaEntity setVersion(final long version) {
+        this.version = version;
+        return this;
+    }
 }
\ No newline at end of file
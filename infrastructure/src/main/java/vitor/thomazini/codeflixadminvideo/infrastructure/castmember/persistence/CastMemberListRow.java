@@ -0,0 +1,21 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence;
+
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.CastMemberListOutput;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CastMemberListRow(
+        String id,
+        String name,
+        CastMemberType type,
+        Instant createdAt
+) {
+
+    public static final List<String> ATTRIBUTES = List.of("id", "name", "type", "createdAt");
+
+    public CastMemberListOutput toOutput() {
+        return new CastMemberListOutput(id, name, type, createdAt);
+    }
+}
@@ -1,18 +1,48 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    // a null version matches any
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update CastMember c set c.name = :name, c.type = :type, c.updatedAt = :updatedAt, "
+            + "c.version = c.version + 1 where c.id = :id and (:version is null or c.version = :version)")
+    int updateIfVersion(
+            @Param("id") String id,
+            @Param("version") Long version,
+            @Param("name") String name,
+            @Param("type") CastMemberType type,
+            @Param("updatedAt") Instant updatedAt
+    );
+
+    @Query(value = "select c.version from CastMember c where c.id = :id")
+    long findVersionById(@Param("id") String id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "select c from CastMember c order by c.id")
+    Stream<CastMemberJpaEntity> streamAll();
 }
\ No newline at end of file
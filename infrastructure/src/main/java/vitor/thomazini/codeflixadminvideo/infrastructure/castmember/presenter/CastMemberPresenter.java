@@ -13,7 +13,8 @@ public interface CastMemberPresenter {
                 aMember.name(),
                 aMember.type().name(),
                 aMember.createdAt().toString(),
-                aMember.updatedAt().toString()
+                aMember.updatedAt().toString(),
+                aMember.version()
         );
     }
 
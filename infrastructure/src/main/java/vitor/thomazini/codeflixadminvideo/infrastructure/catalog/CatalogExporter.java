@@ -0,0 +1,125 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.catalog;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.CastMemberOutput;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.CategoryOutput;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GenreOutput;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.presenter.CastMemberPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.presenters.CategoryApiPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.presenters.GenreApiPresenter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Writes every category, genre and cast member as one JSON object per line. Rows are read through server-side cursors
+ * and detached once written, so memory does not grow with the tables.
+ */
+@Component
+public class CatalogExporter {
+
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final CastMemberRepository castMemberRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper mapper;
+
+    public CatalogExporter(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setReadOnly(true);
+        this.mapper = Json.mapper();
+    }
+
+    public void export(final OutputStream out) throws IOException {
+        try (final var generator = this.mapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            this.transactionTemplate.executeWithoutResult(status -> {
+                writeCategories(generator);
+                writeGenres(generator);
+                writeCastMembers(generator);
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCategories(final JsonGenerator generator) {
+        try (final var rows = this.categoryRepository.streamAll()) {
+            rows.forEach(row -> {
+                writeLine(generator, "category", CategoryApiPresenter.present.apply(CategoryOutput.from(row.toAggregate())));
+                this.entityManager.detach(row);
+            });
+        }
+    }
+
+    // both cursors are ordered by genre id, so each genre takes the category ids up to its own
+    private void writeGenres(final JsonGenerator generator) {
+        try (final var rows = this.genreRepository.streamAll();
+             final var links = this.genreRepository.streamAllCategoryIds()) {
+            final var categories = links.iterator();
+            var pending = categories.hasNext() ? categories.next() : null;
+
+            for (final var genres = rows.iterator(); genres.hasNext(); ) {
+                final var genre = genres.next();
+                final var ids = new ArrayList<CategoryId>();
+
+                while (pending != null && pending.getGenreId().compareTo(genre.getId()) <= 0) {
+                    if (pending.getGenreId().equals(genre.getId())) {
+                        ids.add(CategoryId.from(pending.getCategoryId()));
+                    }
+                    pending = categories.hasNext() ? categories.next() : null;
+                }
+
+                writeLine(generator, "genre", GenreApiPresenter.present(GenreOutput.from(genre.toAggregate(ids))));
+                this.entityManager.detach(genre);
+            }
+        }
+    }
+
+    private void writeCastMembers(final JsonGenerator generator) {
+        try (final var rows = this.castMemberRepository.streamAll()) {
+            rows.forEach(row -> {
+                writeLine(generator, "cast_member", CastMemberPresenter.present(CastMemberOutput.from(row.toAggregate())));
+                this.entityManager.detach(row);
+            });
+        }
+    }
+
+    private static void writeLine(final JsonGenerator generator, final String type, final Object data) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeObjectField("data", data);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.BatchWriter;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.genre.GenreCategories;
+import vitor.thomazini.codeflixadminvideo.domain.AggregateRoot;
+import vitor.thomazini.codeflixadminvideo.domain.Identifier;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+import vitor.thomazini.codeflixadminvideo.domain.utils.InstantUtils;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CastMemberResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.models.CatalogImportReport;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CategoryResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the lines written by {@link CatalogExporter}, so an export can be imported as is. Ids and timestamps are kept
+ * when present and generated otherwise.
+ * <p>
+ * Lines are read in chunks of {@code batch.chunk-size}. Each chunk is parsed and validated in parallel, checked
+ * against the database with one lookup per type and written with one {@code createAll} per type, categories first so
+ * the genres of the same chunk can reference them. Invalid lines are reported and skipped, never fail the import.
+ * A {@code createAll} that fails is retried line by line, so only the lines the database refuses are reported.
+ */
+@Component
+public class CatalogImporter {
+
+    private static final String CATEGORY = "category";
+    private static final String GENRE = "genre";
+    private static final String CAST_MEMBER = "cast_member";
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final CategoryExistenceChecker categoryExistenceChecker;
+    private final int chunkSize;
+    private final int maxReportedFailures;
+    private final ObjectMapper mapper;
+
+    public CatalogImporter(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final CategoryExistenceChecker categoryExistenceChecker,
+            @Value("${batch.chunk-size:500}") final int chunkSize,
+            @Value("${catalog.import.max-reported-failures:1000}") final int maxReportedFailures
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.categoryExistenceChecker = Objects.requireNonNull(categoryExistenceChecker);
+        this.chunkSize = chunkSize;
+        this.maxReportedFailures = maxReportedFailures;
+        this.mapper = Json.mapper();
+    }
+
+    public CatalogImportReport importFrom(final InputStream in) throws IOException {
+        final var tally = new Tally(this.maxReportedFailures);
+        final var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final var chunk = new ArrayList<Line>(this.chunkSize);
+
+        var number = 0L;
+        for (var text = reader.readLine(); text != null; text = reader.readLine()) {
+            number++;
+            if (text.isBlank()) {
+                continue;
+            }
+
+            chunk.add(new Line(number, text));
+            if (chunk.size() == this.chunkSize) {
+                importChunk(chunk, tally);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, tally);
+        }
+
+        return tally.report();
+    }
+
+    private void importChunk(final List<Line> lines, final Tally tally) {
+        final var rows = lines.parallelStream()
+                .map(this::parse)
+                .toList();
+
+        final var categories = ofType(rows, CATEGORY);
+        rejectExisting(categories, ids -> values(this.categoryGateway.existsByIds(ids.stream().map(CategoryId::from).toList())));
+        final var createdCategories = write(categories, this.categoryGateway::createAll, tally);
+        createdCategories.forEach(it -> this.categoryExistenceChecker.invalidate(CategoryId.from(it)));
+
+        final var castMembers = ofType(rows, CAST_MEMBER);
+        rejectExisting(castMembers, ids -> values(this.castMemberGateway.existsByIds(ids.stream().map(CastMemberId::from).toList())));
+        write(castMembers, this.castMemberGateway::createAll, tally);
+
+        final var genres = ofType(rows, GENRE);
+        rejectExisting(genres, ids -> values(this.genreGateway.existsByIds(ids.stream().map(GenreId::from).toList())));
+        rejectMissingCategories(genres);
+        write(genres, this.genreGateway::createAll, tally);
+
+        rows.stream()
+                .filter(it -> it.aggregate() == null)
+                .forEach(tally::failed);
+    }
+
+    private Row parse(final Line line) {
+        final var notification = Notification.create();
+        String type = null;
+        Object data = null;
+
+        try (final var parser = this.mapper.createParser(line.text())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Line is not a JSON object");
+            }
+
+            TreeNode pending = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "type" -> type = parser.getValueAsString();
+                    case "data" -> {
+                        if (type == null) {
+                            pending = parser.readValueAsTree();
+                        } else {
+                            data = parser.readValueAs(dataClass(type));
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (type == null) {
+                throw new IllegalArgumentException("'type' should not be null");
+            }
+            if (data == null && pending != null) {
+                data = this.mapper.treeToValue(pending, dataClass(type));
+            }
+            if (data == null) {
+                throw new IllegalArgumentException("'data' should not be null");
+            }
+        } catch (final JsonProcessingException e) {
+            notification.append(new Error(e.getOriginalMessage()));
+        } catch (final Exception e) {
+            notification.append(new Error(e.getMessage()));
+        }
+
+        if (notification.hasErrors()) {
+            return new Row(line.number(), type, null, notification);
+        }
+
+        final var value = data;
+        final var aggregate = notification.validate(() -> toAggregate(value));
+        if (aggregate != null) {
+            aggregate.validate(notification);
+        }
+
+        return new Row(line.number(), type, notification.hasErrors() ? null : aggregate, notification);
+    }
+
+    private static Class<?> dataClass(final String type) {
+        return switch (type) {
+            case CATEGORY -> CategoryResponse.class;
+            case GENRE -> GenreResponse.class;
+            case CAST_MEMBER -> CastMemberResponse.class;
+            default -> throw new IllegalArgumentException("Unknown type '%s'".formatted(type));
+        };
+    }
+
+    private static AggregateRoot<?> toAggregate(final Object data) {
+        final var now = InstantUtils.now();
+
+        if (data instanceof CategoryResponse category) {
+            final var active = category.isActive() == null || category.isActive();
+            return Category.with(
+                    id(category.id(), CategoryId::from, CategoryId::unique),
+                    category.name(),
+                    category.description(),
+                    active,
+                    orElse(category.createdAt(), now),
+                    orElse(category.updatedAt(), now),
+                    active ? null : orElse(category.deletedAt(), now)
+            );
+        }
+
+        if (data instanceof GenreResponse genre) {
+            final var active = genre.active() == null || genre.active();
+            final var categories = genre.categories() == null
+                    ? new ArrayList<CategoryId>()
+                    : genre.categories().stream().map(CategoryId::from).collect(Collectors.toCollection(ArrayList::new));
+            return Genre.with(
+                    id(genre.id(), GenreId::from, GenreId::unique),
+                    genre.name(),
+                    active,
+                    categories,
+                    orElse(genre.createdAt(), now),
+                    orElse(genre.updatedAt(), now),
+                    active ? null : orElse(genre.deletedAt(), now)
+            );
+        }
+
+        final var member = (CastMemberResponse) data;
+        return CastMember.with(
+                id(member.id(), CastMemberId::from, CastMemberId::unique),
+                member.name(),
+                member.type() == null ? null : CastMemberType.valueOf(member.type()),
+                member.createdAt() == null ? now : Instant.parse(member.createdAt()),
+                member.updatedAt() == null ? now : Instant.parse(member.updatedAt())
+        );
+    }
+
+    // ids are stored as BINARY(16), so anything but 32 hex digits would be truncated, mangled or refused by the insert
+    private static <T extends Identifier> T id(final String id, final Function<String, T> from, final Supplier<T> unique) {
+        if (id == null) {
+            return unique.get();
+        }
+        if (!IdUtils.isValid(id)) {
+            throw new IllegalArgumentException("'id' should be 32 lower-case hex digits");
+        }
+        return from.apply(id);
+    }
+
+    private static List<Row> ofType(final List<Row> rows, final String type) {
+        return rows.stream()
+                .filter(it -> it.aggregate() != null && type.equals(it.type()))
+                .toList();
+    }
+
+    // ids already stored, or repeated within the chunk, would fail the whole chunk's insert
+    private static void rejectExisting(final List<Row> rows, final Function<List<String>, Collection<String>> existsByIds) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        final var existing = new HashSet<>(existsByIds.apply(rows.stream().map(Row::id).toList()));
+        final var seen = new HashSet<String>();
+        for (final var row : rows) {
+            if (existing.contains(row.id()) || !seen.add(row.id())) {
+                row.notification().append(new Error("'%s' already exists".formatted(row.id())));
+            }
+        }
+    }
+
+    // one lookup for every category referenced by the chunk's genres; a malformed id cannot exist, so it is not looked up
+    private void rejectMissingCategories(final List<Row> genres) {
+        final var ids = genres.stream()
+                .filter(it -> !it.notification().hasErrors())
+                .flatMap(it -> ((Genre) it.aggregate()).categories().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final var missing = ids.stream()
+                .filter(it -> !IdUtils.isValid(it.value()))
+                .collect(Collectors.toCollection(HashSet::new));
+        ids.removeAll(missing);
+        missing.addAll(this.categoryExistenceChecker.missing(ids));
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (final var row : genres) {
+            row.notification().append(GenreCategories.validate(((Genre) row.aggregate()).categories(), missing));
+        }
+    }
+
+    private static <T extends AggregateRoot<?>> List<String> write(
+            final List<Row> rows,
+            final UnaryOperator<List<T>> writer,
+            final Tally tally
+    ) {
+        // a refused createAll is written again line by line by the batch writer, so only the refused lines fail
+        final var results = attempt(rows, writer);
+
+        final var created = new ArrayList<String>();
+        for (int i = 0; i < results.size(); i++) {
+            final var result = results.get(i);
+            if (result.succeeded()) {
+                created.add(result.id());
+                tally.created(rows.get(i).type());
+            } else {
+                tally.failed(rows.get(i).type(), rows.get(i).number(), result.errors());
+            }
+        }
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends AggregateRoot<?>> List<BatchItemOutput> attempt(
+            final List<Row> rows,
+            final UnaryOperator<List<T>> writer
+    ) {
+        final var batch = new BatchWriter<T>(rows.size(), Math.max(rows.size(), 1));
+        for (int i = 0; i < rows.size(); i++) {
+            final var row = rows.get(i);
+            if (row.notification().hasErrors()) {
+                batch.reject(i, row.notification());
+            } else {
+                batch.accept(i, (T) row.aggregate());
+            }
+        }
+        return batch.write(writer, it -> it.id().value());
+    }
+
+    private static List<String> values(final List<? extends Identifier> ids) {
+        return ids.stream()
+                .map(Identifier::value)
+                .toList();
+    }
+
+    private static Instant orElse(final Instant value, final Instant fallback) {
+        return value == null ? fallback : value;
+    }
+
+    private record Line(long number, String text) {}
+
+    private record Row(long number, String type, AggregateRoot<?> aggregate, Notification notification) {
+
+        String id() {
+            return this.aggregate.id().value();
+        }
+    }
+
+    private static final class Tally {
+
+        private final long startedAt = System.nanoTime();
+        private final int maxReportedFailures;
+        private final Map<String, long[]> totals = new LinkedHashMap<>();
+        private final List<CatalogImportReport.Failure> failures = new ArrayList<>();
+        private boolean failuresTruncated;
+
+        private Tally(final int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+            List.of(CATEGORY, GENRE, CAST_MEMBER).forEach(it -> this.totals.put(it, new long[2]));
+        }
+
+        void created(final String type) {
+            this.totals.get(type)[0]++;
+        }
+
+        void failed(final Row row) {
+            failed(row.type(), row.number(), row.notification().getErrors());
+        }
+
+        void failed(final String type, final long line, final List<Error> errors) {
+            final var key = type == null || !this.totals.containsKey(type) ? "unknown" : type;
+            this.totals.computeIfAbsent(key, it -> new long[2])[1]++;
+
+            if (this.failures.size() < this.maxReportedFailures) {
+                this.failures.add(new CatalogImportReport.Failure(line, type, errors.stream().map(Error::message).toList()));
+            } else {
+                this.failuresTruncated = true;
+            }
+        }
+
+        CatalogImportReport report() {
+            final var byType = new LinkedHashMap<String, CatalogImportReport.Totals>();
+            this.totals.forEach((type, counts) -> byType.put(type, new CatalogImportReport.Totals(counts[0], counts[1])));
+
+            final var created = byType.values().stream().mapToLong(CatalogImportReport.Totals::created).sum();
+            final var failed = byType.values().stream().mapToLong(CatalogImportReport.Totals::failed).sum();
+
+            return new CatalogImportReport(
+                    created + failed,
+                    created,
+                    failed,
+                    byType,
+                    List.copyOf(this.failures),
+                    this.failuresTruncated,
+                    (System.nanoTime() - this.startedAt) / 1_000_000
+            );
+        }
+    }
+}
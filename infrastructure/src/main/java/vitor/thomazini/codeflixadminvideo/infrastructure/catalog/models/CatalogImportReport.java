@@ -0,0 +1,28 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.catalog.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+public record CatalogImportReport(
+        @JsonProperty("lines") long lines,
+        @JsonProperty("created") long created,
+        @JsonProperty("failed") long failed,
+        @JsonProperty("totals") Map<String, Totals> totals,
+        @JsonProperty("failures") List<Failure> failures,
+        @JsonProperty("failures_truncated") boolean failuresTruncated,
+        @JsonProperty("elapsed_millis") long elapsedMillis
+) {
+
+    public record Totals(
+            @JsonProperty("created") long created,
+            @JsonProperty("failed") long failed
+    ) {}
+
+    public record Failure(
+            @JsonProperty("line") long line,
+            @JsonProperty("type") String type,
+            @JsonProperty("errors") List<String> errors
+    ) {}
+}
@@ -0,0 +1,131 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.category;
+
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final ReadThroughCache<CategoryId, Category> categoryCache;
+    private final ReadThroughCache<GenreId, Genre> genreCache;
+    private final CategoryExistenceChecker categoryExistenceChecker;
+    private final boolean cachedReads;
+
+    public CachedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final ReadThroughCache<CategoryId, Category> categoryCache,
+            final ReadThroughCache<GenreId, Genre> genreCache,
+            final CategoryExistenceChecker categoryExistenceChecker
+    ) {
+        this(categoryGateway, categoryCache, genreCache, categoryExistenceChecker, true);
+    }
+
+    private CachedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final ReadThroughCache<CategoryId, Category> categoryCache,
+            final ReadThroughCache<GenreId, Genre> genreCache,
+            final CategoryExistenceChecker categoryExistenceChecker,
+            final boolean cachedReads
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryCache = Objects.requireNonNull(categoryCache);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.categoryExistenceChecker = Objects.requireNonNull(categoryExistenceChecker);
+        this.cachedReads = cachedReads;
+    }
+
+    /**
+     * The same gateway, but {@link #findById} always reads the stored row. Get by id may be served by a lagging
+     * replica and cache what it read, so the write flows use this one and never start from that copy.
+     */
+    public CachedCategoryGateway uncachedReads() {
+        return new CachedCategoryGateway(
+                this.categoryGateway,
+                this.categoryCache,
+                this.genreCache,
+                this.categoryExistenceChecker,
+                false
+        );
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.categoryGateway.create(category);
+        this.categoryExistenceChecker.invalidate(category.id());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.categoryGateway.createAll(categories);
+        categories.forEach(it -> this.categoryExistenceChecker.invalidate(it.id()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.categoryGateway.deleteById(id);
+        this.categoryCache.invalidate(id);
+        this.categoryExistenceChecker.invalidate(id);
+        // the database cascades the deletion to genres_categories, so cached genres may still list it
+        this.genreCache.invalidateAll();
+    }
+
+    // aggregates are mutable, so the cache never hands out the instance it keeps
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        if (!this.cachedReads) {
+            return this.categoryGateway.findById(id);
+        }
+        return this.categoryCache.get(id, it -> this.categoryGateway.findById(it).map(Category::from))
+                .map(Category::from);
+    }
+
+    @Override
+    public List<Category> findByIds(final Iterable<CategoryId> ids) {
+        return this.categoryGateway.findByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return update(category, category.version());
+    }
+
+    // a conflict usually means the cached copy is the stale one, so it is dropped either way
+    @Override
+    public Category update(final Category category, final Long expectedVersion) {
+        try {
+            return this.categoryGateway.update(category, expectedVersion);
+        } finally {
+            this.categoryCache.invalidate(category.id());
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        final var updated = this.categoryGateway.updateAll(categories);
+        categories.forEach(it -> this.categoryCache.invalidate(it.id()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.categoryGateway.findAll(query);
+    }
+
+    @Override
+    public List<CategoryId> existsByIds(final Iterable<CategoryId> ids) {
+        return this.categoryGateway.existsByIds(ids);
+    }
+}
@@ -1,45 +1,121 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.category;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.CategoryOutput;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListGateway;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListOutput;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryListRow;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
-import vitor.thomazini.codeflixadminvideo.infrastructure.utils.SpecificationUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.presenters.CategoryApiPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.Outbox;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.OutboxEvent;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.QueryPlans;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.SortableTable;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchableEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.CountCache;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
-import static vitor.thomazini.codeflixadminvideo.infrastructure.utils.SpecificationUtils.like;
-
 @Component
-public class CategoryMySQLGateway implements CategoryGateway {
+public class CategoryMySQLGateway implements CategoryGateway, CategoryListGateway {
+
+    private static final String AGGREGATE_TYPE = "category";
+
+    public static final SortableTable SORTABLE = new SortableTable(
+            "categories",
+            Map.of("name", "name", "description", "description", "createdAt", "created_at")
+    );
+
+    private static final QueryPlans<CategoryJpaEntity, CategoryListRow> PLANS = new QueryPlans<>(
+            CategoryJpaEntity.class,
+            CategoryListRow.class,
+            CategoryListRow.ATTRIBUTES,
+            SORTABLE
+    );
+
+    private static final SearchableEntity<CategoryJpaEntity> SEARCHABLE = new SearchableEntity<>(
+            CategoryJpaEntity.class,
+            CategoryJpaEntity::getId,
+            List.of("name", "description"),
+            it -> Arrays.asList(it.getName(), it.getDescription())
+    );
 
     private final CategoryRepository repository;
+    private final SearchBackend searchBackend;
+    private final EntityManager entityManager;
+    private final Outbox outbox;
+    private final CountCache counts;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final SearchBackend searchBackend,
+            final EntityManager entityManager,
+            final Outbox outbox,
+            @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.searchBackend = Objects.requireNonNull(searchBackend);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.counts = new CountCache(countCacheTtl);
     }
 
     @Override
+    @Transactional
     public Category create(final Category category) {
-        return this.save(category);
+        return this.save(category, OutboxEvent.Type.CREATED);
+    }
+
+    // persist skips the select that save issues for entities with assigned ids, so the inserts can be batched
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        final var entities = categories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+        entities.forEach(this.entityManager::persist);
+        this.counts.invalidate();
+
+        final var created = entities.stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        created.forEach(it -> this.record(it, OutboxEvent.Type.CREATED));
+        return created;
     }
 
     @Override
+    @Transactional
     public void deleteById(final CategoryId id) {
         final var idValue = id.value();
         if (this.repository.existsById(idValue)) {
             this.repository.deleteById(idValue);
+            this.outbox.append(AGGREGATE_TYPE, idValue, OutboxEvent.Type.DELETED, null);
+            this.counts.invalidate();
         }
     }
 
@@ -49,29 +125,143 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public List<Category> findByIds(final Iterable<CategoryId> categoryIds) {
+        final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryId::value)
+                .toList();
+        return this.repository.findAllById(ids).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category category) {
-        return this.save(category);
+        return update(category, category.version());
     }
 
     @Override
-    public Pagination<Category> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+    @Transactional
+    public Category update(final Category category, final Long expectedVersion) {
+        final var entity = CategoryJpaEntity.from(category);
+        final var updatedRows = this.repository.updateIfVersion(
+                entity.getId(),
+                expectedVersion,
+                entity.getName(),
+                entity.getDescription(),
+                entity.isActive(),
+                entity.getUpdatedAt(),
+                entity.getDeletedAt()
         );
 
+        // no row matched: it is a conflict only when the row is still there under another version
+        if (updatedRows == 0 && (expectedVersion == null || !this.repository.existsById(entity.getId()))) {
+            throw NotFoundException.with(Category.class, category.id());
+        }
+        if (updatedRows == 0) {
+            throw ConflictException.with(Category.class, category.id(), expectedVersion);
+        }
+
+        entity.setVersion(expectedVersion == null ? this.repository.findVersionById(entity.getId()) : expectedVersion + 1);
+        this.searchBackend.updated(SEARCHABLE, entity);
+        final var updated = entity.toAggregate();
+        this.record(updated, OutboxEvent.Type.UPDATED);
+        this.counts.invalidate();
+        return updated;
+    }
+
+    // the rows are loaded with a single select first, so merging them does not read each one again
+    @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> categories) {
+        final var ids = categories.stream().map(it -> it.id().value()).toList();
+        final var stored = this.repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, CategoryJpaEntity::getVersion));
+
+        // the versions are compared with the rows just read, so a conflict is reported as one; merge still refuses a
+        // version bumped in between, and the flush bumps them before they are read back
+        for (final var category : categories) {
+            final var version = stored.get(category.id().value());
+            if (version == null) {
+                throw NotFoundException.with(Category.class, category.id());
+            }
+            if (version != category.version()) {
+                throw ConflictException.with(Category.class, category.id(), category.version());
+            }
+        }
+
+        final var merged = categories.stream()
+                .map(CategoryJpaEntity::from)
+                .map(this.entityManager::merge)
+                .toList();
+        this.entityManager.flush();
+
+        final var updated = merged.stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        updated.forEach(it -> this.record(it, OutboxEvent.Type.UPDATED));
+        this.counts.invalidate();
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        final var plan = PLANS.plan(query);
+        final var page = PageRequest.of(query.page(), query.perPage(), plan.sort());
+
         final var specifications = Optional.ofNullable(query.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+        if (specifications == null) {
+            final var slice = PLANS.page(this.entityManager, plan, page.getOffset(), page.getPageSize());
+            return new Pagination<>(
+                    page.getPageNumber(),
+                    page.getPageSize(),
+                    this.counts.totalOf(query, page.getOffset(), slice, () -> PLANS.count(this.entityManager)),
+                    slice.map(CategoryJpaEntity::toAggregate).getContent()
+            );
+        }
+
+        final var where = Specification.where(specifications);
+
+        final Window<CategoryJpaEntity> slice = this.repository.findBy(
+                where,
+                (FluentQuery.FetchableFluentQuery<CategoryJpaEntity> it) -> it.sortBy(page.getSort())
+                        .limit(page.getPageSize())
+                        .scroll(ScrollPosition.offset(page.getOffset()))
+        );
+
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(query, page.getOffset(), slice, () -> this.repository.count(where)),
+                slice.map(CategoryJpaEntity::toAggregate).getContent()
+        );
+    }
+
+    // rows are read into CategoryListRow, so no entity is managed nor aggregate rebuilt for a list page
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategoryListOutput> list(final SearchQuery query) {
+        final var plan = PLANS.plan(query);
+        final var page = PageRequest.of(query.page(), query.perPage(), plan.sort());
+
+        final var where = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final var slice = PLANS.rows(this.entityManager, plan, where, page.getOffset(), page.getPageSize());
+
+        return new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(query, page.getOffset(), slice, () -> where == null
+                        ? PLANS.count(this.entityManager)
+                        : this.repository.count(where)),
+                slice.map(CategoryListRow::toOutput).getContent()
         );
     }
 
@@ -85,14 +275,20 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .toList();
     }
 
-    private Category save(Category category) {
+    private Category save(final Category category, final OutboxEvent.Type type) {
         final var entity = CategoryJpaEntity.from(category);
-        return this.repository.save(entity).toAggregate();
+        final var saved = this.repository.save(entity).toAggregate();
+        this.record(saved, type);
+        this.counts.invalidate();
+        return saved;
+    }
+
+    private void record(final Category category, final OutboxEvent.Type type) {
+        final var payload = CategoryApiPresenter.present.apply(CategoryOutput.from(category));
+        this.outbox.append(AGGREGATE_TYPE, category.id().value(), type, payload);
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+        return this.searchBackend.matching(SEARCHABLE, str);
     }
 }
\ No newline at end of file
@@ -11,5 +11,6 @@ public record CategoryResponse(
         @JsonProperty("is_active") Boolean isActive,
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("updated_at") Instant updatedAt,
-        @JsonProperty("deleted_at") Instant deletedAt
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("version") Long version
 ) {}
@@ -0,0 +1,11 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UpdateCategoryBatchRequest(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("version") Long version
+) {}
@@ -5,5 +5,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public record UpdateCategoryRequest(
         @JsonProperty("name") String name,
         @JsonProperty("description") String description,
-        @JsonProperty("is_active") Boolean active
-) {}
\ No newline at end of file
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("version") Long version
+) {
+
+    public UpdateCategoryRequest(final String name, final String description, final Boolean active) {
+        this(name, description, active, null);
+    }
+}
\ No newline at end of file
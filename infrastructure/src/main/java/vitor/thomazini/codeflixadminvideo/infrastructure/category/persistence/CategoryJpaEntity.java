@@ -4,8 +4,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Type;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
 
 import java.time.Instant;
 
@@ -13,6 +16,7 @@ import java.time.Instant;
 @Table(name = "categories")
 public class CategoryJpaEntity {
     @Id
+    @Type(BinaryIdType.class)
     private String id;
 
     @Column(name = "name", length = 255, nullable = false)
@@ -33,6 +37,10 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -43,7 +51,8 @@ public class CategoryJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -52,6 +61,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
@@ -62,7 +72,8 @@ public class CategoryJpaEntity {
                 category.isActive(),
                 category.createdAt(),
                 category.updatedAt(),
-                category.deletedAt()
+                category.deletedAt(),
+                category.version()
         );
     }
 
@@ -74,7 +85,8 @@ public class CategoryJpaEntity {
                 this.isActive(),
                 this.getCreatedAt(),
                 this.getUpdatedAt(),
-                this.getDeletedAt()
+                this.getDeletedAt(),
+                this.getVersion()
         );
     }
 
@@ -133,4 +145,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
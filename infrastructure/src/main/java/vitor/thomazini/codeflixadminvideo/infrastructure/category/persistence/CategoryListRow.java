@@ -0,0 +1,23 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence;
+
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListOutput;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CategoryListRow(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static final List<String> ATTRIBUTES = List.of("id", "name", "description", "active", "createdAt", "deletedAt");
+
+    public CategoryListOutput toOutput() {
+        return new CategoryListOutput(CategoryId.from(id), name, description, active, createdAt, deletedAt);
+    }
+}
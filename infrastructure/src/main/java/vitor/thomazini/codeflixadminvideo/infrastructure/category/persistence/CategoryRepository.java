@@ -1,18 +1,53 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(List<String> ids);
+
+    // returns 0 when the row is gone or another update bumped the version first, a null version matches any; the
+    // context is cleared so no entity loaded before keeps the old state
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Category c set c.name = :name, c.description = :description, c.active = :active, "
+            + "c.updatedAt = :updatedAt, c.deletedAt = :deletedAt, c.version = c.version + 1 "
+            + "where c.id = :id and (:version is null or c.version = :version)")
+    int updateIfVersion(
+            @Param("id") String id,
+            @Param("version") Long version,
+            @Param("name") String name,
+            @Param("description") String description,
+            @Param("active") boolean active,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("deletedAt") Instant deletedAt
+    );
+
+    @Query(value = "select c.version from Category c where c.id = :id")
+    long findVersionById(@Param("id") String id);
+
+    // server-side cursor for the catalog export; MySQL only honors the fetch size with useCursorFetch=true
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "select c from Category c order by c.id")
+    Stream<CategoryJpaEntity> streamAll();
 }
@@ -17,7 +17,8 @@ public interface CategoryApiPresenter {
                     output.isActive(),
                     output.createdAt(),
                     output.updatedAt(),
-                    output.deletedAt()
+                    output.deletedAt(),
+                    output.version()
             );
 
     static CategoryListResponse present(final CategoryListOutput output) {
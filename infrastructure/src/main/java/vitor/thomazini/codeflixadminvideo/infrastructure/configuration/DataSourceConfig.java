@@ -0,0 +1,150 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.ListCastMembersUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.ListGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.DbAdmission;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.PoolMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ReadWriteRoutingDataSource;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ReplicaReads;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.GatewayPointcut;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final List<Class<?>> QUERY_USE_CASES = List.of(
+            GetCategoryByIdUseCase.class,
+            ListCategoriesUseCase.class,
+            GetGenreByIdUseCase.class,
+            ListGenreUseCase.class,
+            GetCastMemberByIdUseCase.class,
+            ListCastMembersUseCase.class
+    );
+
+    @Bean
+    public static PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+    // the tracker factory has to be set before the pool starts, which happens on the first getConnection
+    @Bean
+    public static BeanPostProcessor poolMetricsInstaller(final PoolMetrics poolMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    hikari.setMetricsTrackerFactory(poolMetrics);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static ReplicaReads replicaReads() {
+        return new ReplicaReads();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaReadsAdvisor(final ReplicaReads replicaReads) {
+        return new DefaultPointcutAdvisor(queryUseCases(), replicaReads);
+    }
+
+    // admission properties are read from the environment: advisors are created before @Value placeholders resolve
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static DbAdmission dbAdmission(final Environment environment) {
+        return new DbAdmission(
+                environment.getProperty("db.admission.permits", Integer.class, 18),
+                environment.getProperty("db.admission.max-queue", Integer.class, 200),
+                environment.getProperty("db.admission.max-wait", Duration.class, Duration.ofSeconds(1))
+        );
+    }
+
+    // the query use cases open their read-only transaction before reaching a gateway, so they are admitted first;
+    // ordered right after the use case timer and ahead of every transaction interceptor
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true", matchIfMissing = true)
+    public static Advisor dbAdmissionAdvisor(final DbAdmission dbAdmission) {
+        final Pointcut gateways = new GatewayPointcut();
+        final var advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(gateways).union(queryUseCases()),
+                dbAdmission
+        );
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    private static Pointcut queryUseCases() {
+        final var pointcut = new NameMatchMethodPointcut();
+        pointcut.setMappedName("execute");
+        pointcut.setClassFilter(type -> QUERY_USE_CASES.stream().anyMatch(it -> it.isAssignableFrom(type)));
+        return pointcut;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    static class ReplicaConfig {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource masterDataSource(final DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+        }
+
+        @Bean
+        @ConfigurationProperties("datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(
+                @Value("${datasource.replica.url}") final String url,
+                @Value("${datasource.replica.username}") final String username,
+                @Value("${datasource.replica.password}") final String password
+        ) {
+            return DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(final HikariDataSource masterDataSource, final HikariDataSource replicaDataSource) {
+            return new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(masterDataSource, replicaDataSource)
+            );
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.time.Duration;
+
+@Configuration
+public class GatewayCacheConfig {
+
+    private final int maxSize;
+    private final Duration ttl;
+
+    public GatewayCacheConfig(
+            @Value("${cache.gateways.max-size:10000}") final int maxSize,
+            @Value("${cache.gateways.ttl:60s}") final Duration ttl
+    ) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Bean
+    public ReadThroughCache<CategoryId, Category> categoryCache() {
+        return new ReadThroughCache<>("categories", maxSize, ttl);
+    }
+
+    @Bean
+    public ReadThroughCache<GenreId, Genre> genreCache() {
+        return new ReadThroughCache<>("genres", maxSize, ttl);
+    }
+
+    @Bean
+    public ReadThroughCache<CastMemberId, CastMember> castMemberCache() {
+        return new ReadThroughCache<>("cast_members", maxSize, ttl);
+    }
+
+    @Bean
+    public CategoryExistenceChecker categoryExistenceChecker(final CategoryGateway categoryGateway) {
+        return new CategoryExistenceChecker(categoryGateway, maxSize, ttl);
+    }
+
+    @Bean
+    public ListVersions listVersions() {
+        return new ListVersions(ttl);
+    }
+}
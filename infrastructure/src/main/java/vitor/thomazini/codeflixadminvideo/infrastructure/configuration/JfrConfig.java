@@ -0,0 +1,40 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.GatewayEvents;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.JfrLogSink;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.PinningMonitor;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.GatewayPointcut;
+
+import java.time.Duration;
+
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor gatewayEventsAdvisor() {
+        return new DefaultPointcutAdvisor(new GatewayPointcut(), new GatewayEvents());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jfr.log-sink.enabled", havingValue = "true")
+    public JfrLogSink jfrLogSink(@Value("${jfr.log-sink.threshold:100ms}") final Duration threshold) {
+        return new JfrLogSink(threshold);
+    }
+
+    @Bean
+    public PinningMonitor pinningMonitor(
+            @Value("${jfr.pinning.enabled:true}") final boolean enabled,
+            @Value("${jfr.pinning.threshold:20ms}") final Duration threshold
+    ) {
+        return new PinningMonitor(enabled, threshold);
+    }
+}
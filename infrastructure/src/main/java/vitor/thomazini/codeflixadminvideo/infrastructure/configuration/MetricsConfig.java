@@ -0,0 +1,51 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import vitor.thomazini.codeflixadminvideo.application.NullaryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.UnitUseCase;
+import vitor.thomazini.codeflixadminvideo.application.UseCase;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRequestMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.UseCaseMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.UseCaseTimer;
+
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final List<Class<?>> USE_CASES = List.of(
+            UseCase.class,
+            UnitUseCase.class,
+            NullaryUseCase.class
+    );
+
+    @Bean
+    public static UseCaseMetrics useCaseMetrics() {
+        return new UseCaseMetrics();
+    }
+
+    @Bean
+    public SqlRequestMetrics sqlRequestMetrics() {
+        return new SqlRequestMetrics();
+    }
+
+    // outermost, so the timings include the transaction the query use cases open
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor useCaseTimerAdvisor(final UseCaseMetrics useCaseMetrics) {
+        final var pointcut = new NameMatchMethodPointcut();
+        pointcut.setMappedName("execute");
+        pointcut.setClassFilter(type -> USE_CASES.stream().anyMatch(it -> it.isAssignableFrom(type)));
+
+        final var advisor = new DefaultPointcutAdvisor(pointcut, new UseCaseTimer(useCaseMetrics));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
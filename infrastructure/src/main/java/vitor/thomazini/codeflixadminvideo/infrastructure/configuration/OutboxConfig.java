@@ -0,0 +1,31 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.InMemoryOutboxSink;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.LoggingOutboxSink;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.OutboxSink;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(
+            @Value("${outbox.sink:log}") final String sink,
+            @Value("${outbox.memory-sink.capacity:10000}") final int capacity,
+            @Value("${outbox.relay.enabled:true}") final boolean relayEnabled
+    ) {
+        return switch (sink) {
+            case "log" -> new LoggingOutboxSink();
+            case "memory" -> {
+                // nothing in the application consumes the queue, so a running relay would fill it and stall
+                if (relayEnabled) {
+                    throw new IllegalStateException("The memory outbox sink needs outbox.relay.enabled=false");
+                }
+                yield new InMemoryOutboxSink(capacity);
+            }
+            default -> throw new IllegalStateException("Unknown outbox sink '%s'".formatted(sink));
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.FullTextSearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.InvertedIndexSearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.LikeSearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchBackend;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public SearchBackend searchBackend(
+            @Value("${search.backend:like}") final String backend,
+            final EntityManagerFactory entityManagerFactory
+    ) {
+        return switch (backend) {
+            case "fulltext" -> new FullTextSearchBackend();
+            case "index" -> new InvertedIndexSearchBackend(entityManagerFactory);
+            case "like" -> new LikeSearchBackend();
+            default -> throw new IllegalStateException("Unknown search backend '%s'".formatted(backend));
+        };
+    }
+}
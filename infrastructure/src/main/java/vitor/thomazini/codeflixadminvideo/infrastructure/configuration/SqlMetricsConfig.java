@@ -0,0 +1,53 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlMetricsDataSource;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlMetricsFilter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRequestMetrics;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlStatementInspector;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    @Bean
+    public SqlMetricsFilter sqlMetricsFilter(
+            final SqlRequestMetrics sqlRequestMetrics,
+            @Value("${sql.metrics.statement-budget:20}") final int statementBudget,
+            @Value("${sql.metrics.response-headers:false}") final boolean responseHeaders
+    ) {
+        return new SqlMetricsFilter(sqlRequestMetrics, statementBudget, responseHeaders);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+    }
+
+    // only the primary bean is wrapped; the replica routing injects the Hikari pools behind it by type. Post processors
+    // are created before @Value placeholders can be resolved, hence the environment lookup
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourceWrapper(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    final var slowStatement =
+                            environment.getProperty("sql.metrics.slow-statement", Duration.class, Duration.ofMillis(200));
+                    return new SqlMetricsDataSource(dataSource, slowStatement);
+                }
+                return bean;
+            }
+        };
+    }
+}
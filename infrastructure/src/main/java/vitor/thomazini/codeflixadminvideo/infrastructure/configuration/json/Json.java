@@ -1,5 +1,6 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -9,6 +10,7 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.JsonEvent;
 
 import java.util.concurrent.Callable;
 
@@ -20,11 +22,27 @@ public enum Json {
     }
 
     public static String writeValue(final Object obj) {
-        return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
+        final var event = new JsonEvent();
+        event.begin();
+        final var json = invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
+        commit(event, "write", obj == null ? null : obj.getClass().getName(), json);
+        return json;
     }
 
     public static <T> T readValue(final String json, final Class<T> clazz) {
-        return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
+        final var event = new JsonEvent();
+        event.begin();
+        final var value = invoke(() -> INSTANCE.mapper.readValue(json, clazz));
+        commit(event, "read", clazz.getName(), json);
+        return value;
+    }
+
+    public static <T> T readValue(final String json, final TypeReference<T> type) {
+        final var event = new JsonEvent();
+        event.begin();
+        final var value = invoke(() -> INSTANCE.mapper.readValue(json, type));
+        commit(event, "read", type.getType().getTypeName(), json);
+        return value;
     }
 
     private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
@@ -47,6 +65,15 @@ public enum Json {
         return module;
     }
 
+    private static void commit(final JsonEvent event, final String operation, final String type, final String json) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.type = type;
+            event.bytes = JsonEvent.utf8Length(json);
+            event.commit();
+        }
+    }
+
     private static <T> T invoke(final Callable<T> callable) {
         try {
             return callable.call();
@@ -1,28 +1,52 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.configuration.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.DefaultCreateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.create.DefaultCreateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.delete.DeleteCastMemberUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.CastMemberListGateway;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.DefaultUpdateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.update.DefaultUpdateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMembersBatchUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.CachedCastMemberGateway;
 
 import java.util.Objects;
 
 @Configuration
 public class CastMemberUseCaseConfig {
 
+    private final CachedCastMemberGateway cachedCastMemberGateway;
     private final CastMemberGateway castMemberGateway;
+    private final int batchChunkSize;
+    private final int batchMaxItems;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway) {
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    public CastMemberUseCaseConfig(
+            final CastMemberGateway castMemberGateway,
+            final ReadThroughCache<CastMemberId, CastMember> castMemberCache,
+            @Value("${batch.chunk-size:500}") final int batchChunkSize,
+            @Value("${batch.max-items:1000}") final int batchMaxItems
+    ) {
+        this.cachedCastMemberGateway = new CachedCastMemberGateway(
+                Objects.requireNonNull(castMemberGateway),
+                castMemberCache
+        );
+        this.castMemberGateway = this.cachedCastMemberGateway.uncachedReads();
+        this.batchChunkSize = batchChunkSize;
+        this.batchMaxItems = batchMaxItems;
     }
 
     @Bean
@@ -30,6 +54,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMembersBatchUseCase createCastMembersBatchUseCase() {
+        return new DefaultCreateCastMembersBatchUseCase(castMemberGateway, batchChunkSize, batchMaxItems);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
@@ -37,16 +66,21 @@ public class CastMemberUseCaseConfig {
 
     @Bean
     public GetCastMemberByIdUseCase getCastMemberByIdUseCase() {
-        return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
+        return new DefaultGetCastMemberByIdUseCase(cachedCastMemberGateway);
     }
 
     @Bean
-    public ListCastMembersUseCase listCastMembersUseCase() {
-        return new DefaultListCastMembersUseCase(castMemberGateway);
+    public ListCastMembersUseCase listCastMembersUseCase(final CastMemberListGateway castMemberListGateway) {
+        return new DefaultListCastMembersUseCase(castMemberListGateway);
     }
 
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
     }
+
+    @Bean
+    public UpdateCastMembersBatchUseCase updateCastMembersBatchUseCase() {
+        return new DefaultUpdateCastMembersBatchUseCase(castMemberGateway, batchChunkSize, batchMaxItems);
+    }
 }
\ No newline at end of file
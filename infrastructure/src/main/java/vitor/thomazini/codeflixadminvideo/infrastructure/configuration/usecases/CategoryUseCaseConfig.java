@@ -1,28 +1,60 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.configuration.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.create.DefaultCreateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.create.DefaultCreateCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.delete.DefaultDeleteCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.delete.DeleteCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListGateway;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.DefaultUpdateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.update.DefaultUpdateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.CachedCategoryGateway;
 
 import java.util.Objects;
 
 @Configuration
 public class CategoryUseCaseConfig {
 
+    // get by id may read a lagging replica, so only it reads through the cache; the write flows read the stored row
+    private final CachedCategoryGateway cachedCategoryGateway;
     private final CategoryGateway categoryGateway;
+    private final int batchChunkSize;
+    private final int batchMaxItems;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final ReadThroughCache<CategoryId, Category> categoryCache,
+            final ReadThroughCache<GenreId, Genre> genreCache,
+            final CategoryExistenceChecker categoryExistenceChecker,
+            @Value("${batch.chunk-size:500}") final int batchChunkSize,
+            @Value("${batch.max-items:1000}") final int batchMaxItems
+    ) {
+        this.cachedCategoryGateway = new CachedCategoryGateway(
+                Objects.requireNonNull(categoryGateway),
+                categoryCache,
+                genreCache,
+                categoryExistenceChecker
+        );
+        this.categoryGateway = this.cachedCategoryGateway.uncachedReads();
+        this.batchChunkSize = batchChunkSize;
+        this.batchMaxItems = batchMaxItems;
     }
 
     @Bean
@@ -30,19 +62,29 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesBatchUseCase createCategoriesBatchUseCase() {
+        return new DefaultCreateCategoriesBatchUseCase(categoryGateway, batchChunkSize, batchMaxItems);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public UpdateCategoriesBatchUseCase updateCategoriesBatchUseCase() {
+        return new DefaultUpdateCategoriesBatchUseCase(categoryGateway, batchChunkSize, batchMaxItems);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return new DefaultGetCategoryByIdUseCase(cachedCategoryGateway);
     }
 
     @Bean
-    public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+    public ListCategoriesUseCase listCategoriesUseCase(final CategoryListGateway categoryListGateway) {
+        return new DefaultListCategoriesUseCase(categoryListGateway);
     }
 
     @Bean
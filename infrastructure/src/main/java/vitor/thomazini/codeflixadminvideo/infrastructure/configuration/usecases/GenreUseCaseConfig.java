@@ -1,38 +1,66 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.configuration.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import vitor.thomazini.codeflixadminvideo.application.Forks;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.DefaultCreateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.create.DefaultCreateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.delete.DefaultDeleteGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.delete.DeleteGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreListGateway;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.ListGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.DefaultUpdateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.DefaultUpdateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreUseCase;
-import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenresBatchUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.CachedGenreGateway;
 
 import java.util.Objects;
 
 @Configuration
 public class GenreUseCaseConfig {
-    private final CategoryGateway categoryGateway;
+    private final CategoryExistenceChecker categoryExistenceChecker;
+    private final CachedGenreGateway cachedGenreGateway;
     private final GenreGateway genreGateway;
+    private final int batchChunkSize;
+    private final int batchMaxItems;
+    private final Forks forks;
 
     public GenreUseCaseConfig(
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final CategoryExistenceChecker categoryExistenceChecker,
+            final GenreGateway genreGateway,
+            final ReadThroughCache<GenreId, Genre> genreCache,
+            @Value("${batch.chunk-size:500}") final int batchChunkSize,
+            @Value("${batch.max-items:1000}") final int batchMaxItems,
+            @Value("${usecases.concurrent-forks:false}") final boolean concurrentForks
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryExistenceChecker = Objects.requireNonNull(categoryExistenceChecker);
+        this.cachedGenreGateway = new CachedGenreGateway(Objects.requireNonNull(genreGateway), genreCache);
+        this.genreGateway = this.cachedGenreGateway.uncachedReads();
+        this.batchChunkSize = batchChunkSize;
+        this.batchMaxItems = batchMaxItems;
+        this.forks = Forks.of(concurrentForks);
     }
 
     @Bean
     public CreateGenreUseCase createGenreUseCase() {
-        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultCreateGenreUseCase(categoryExistenceChecker, genreGateway);
+    }
+
+    @Bean
+    public CreateGenresBatchUseCase createGenresBatchUseCase() {
+        return new DefaultCreateGenresBatchUseCase(categoryExistenceChecker, genreGateway, batchChunkSize, batchMaxItems);
     }
 
     @Bean
@@ -42,16 +70,21 @@ public class GenreUseCaseConfig {
 
     @Bean
     public GetGenreByIdUseCase getGenreByIdUseCase() {
-        return new DefaultGetGenreByIdUseCase(genreGateway);
+        return new DefaultGetGenreByIdUseCase(cachedGenreGateway);
     }
 
     @Bean
-    public ListGenreUseCase listGenreUseCase() {
-        return new DefaultListGenreUseCase(genreGateway);
+    public ListGenreUseCase listGenreUseCase(final GenreListGateway genreListGateway) {
+        return new DefaultListGenreUseCase(genreListGateway);
     }
 
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
-        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultUpdateGenreUseCase(categoryExistenceChecker, genreGateway, forks);
+    }
+
+    @Bean
+    public UpdateGenresBatchUseCase updateGenresBatchUseCase() {
+        return new DefaultUpdateGenresBatchUseCase(categoryExistenceChecker, genreGateway, batchChunkSize, batchMaxItems);
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import vitor.thomazini.codeflixadminvideo.domain.exception.NoStackTraceException;
+
+public class AdmissionRejectedException extends NoStackTraceException {
+
+    private AdmissionRejectedException(final String message) {
+        super(message);
+    }
+
+    public static AdmissionRejectedException queueFull(final int maxQueue) {
+        return new AdmissionRejectedException(
+                "Database is saturated, %d requests are already waiting".formatted(maxQueue)
+        );
+    }
+
+    public static AdmissionRejectedException timedOut(final long maxWaitMillis) {
+        return new AdmissionRejectedException(
+                "Database is saturated, no slot was freed within %d ms".formatted(maxWaitMillis)
+        );
+    }
+
+    public static AdmissionRejectedException interrupted() {
+        return new AdmissionRejectedException("Interrupted while waiting for a database slot");
+    }
+}
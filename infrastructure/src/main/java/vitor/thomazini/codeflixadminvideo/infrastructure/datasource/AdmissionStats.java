@@ -0,0 +1,13 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+public record AdmissionStats(
+        int permits,
+        int inUse,
+        int queued,
+        int maxQueue,
+        long admitted,
+        long shed,
+        long timedOut,
+        double meanWaitMillis
+) {
+}
@@ -0,0 +1,15 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+public record ConnectionPoolStats(
+        String name,
+        int active,
+        int idle,
+        int total,
+        int maximum,
+        int pending,
+        long acquired,
+        long timeouts,
+        double meanAcquireMillis,
+        double meanUsageMillis
+) {
+}
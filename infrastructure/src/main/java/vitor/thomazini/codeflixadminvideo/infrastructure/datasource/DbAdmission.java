@@ -0,0 +1,108 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the threads doing database work at a number of permits sized below the connection pools, so a burst of
+ * virtual threads queues here in arrival order instead of timing out inside Hikari. Once more than maxQueue callers
+ * are waiting, or one waits longer than maxWait, the call is shed with {@link AdmissionRejectedException}, answered
+ * with a 503.
+ * <p>
+ * A thread holds at most one permit: calls nested inside an admitted one, like the gateway calls of a query use case,
+ * go straight through.
+ */
+public class DbAdmission implements MethodInterceptor {
+
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+    private final int permits;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+    private final AtomicInteger queued;
+    private final LongAdder admitted;
+    private final LongAdder shed;
+    private final LongAdder timedOut;
+    private final LongAdder waitNanos;
+
+    public DbAdmission(final int permits, final int maxQueue, final Duration maxWait) {
+        this.permits = permits;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.semaphore = new Semaphore(permits, true);
+        this.queued = new AtomicInteger();
+        this.admitted = new LongAdder();
+        this.shed = new LongAdder();
+        this.timedOut = new LongAdder();
+        this.waitNanos = new LongAdder();
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (ADMITTED.get() != null) {
+            return invocation.proceed();
+        }
+
+        acquire();
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            ADMITTED.remove();
+            this.semaphore.release();
+        }
+    }
+
+    public AdmissionStats stats() {
+        final var admitted = this.admitted.sum();
+        return new AdmissionStats(
+                this.permits,
+                this.permits - this.semaphore.availablePermits(),
+                this.queued.get(),
+                this.maxQueue,
+                admitted,
+                this.shed.sum(),
+                this.timedOut.sum(),
+                admitted == 0 ? 0 : this.waitNanos.sum() / 1_000_000.0 / admitted
+        );
+    }
+
+    // a zero timeout still honours the fairness, unlike the untimed tryAcquire
+    private void acquire() {
+        final var start = System.nanoTime();
+        try {
+            if (this.semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                this.admitted.increment();
+                return;
+            }
+
+            if (this.queued.incrementAndGet() > this.maxQueue) {
+                this.queued.decrementAndGet();
+                this.shed.increment();
+                throw AdmissionRejectedException.queueFull(this.maxQueue);
+            }
+
+            try {
+                if (!this.semaphore.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    this.timedOut.increment();
+                    throw AdmissionRejectedException.timedOut(TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos));
+                }
+            } finally {
+                this.queued.decrementAndGet();
+            }
+
+            this.admitted.increment();
+            this.waitNanos.add(System.nanoTime() - start);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AdmissionRejectedException.interrupted();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts connection acquisitions, usage and timeouts of every Hikari pool it is installed on, keyed by pool name.
+ */
+public final class PoolMetrics implements MetricsTrackerFactory {
+
+    private final Map<String, Tracker> trackers;
+
+    public PoolMetrics() {
+        this.trackers = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+        final var tracker = new Tracker(poolName, poolStats);
+        this.trackers.put(poolName, tracker);
+        return tracker;
+    }
+
+    public List<ConnectionPoolStats> stats() {
+        return this.trackers.values().stream()
+                .map(Tracker::stats)
+                .sorted(Comparator.comparing(ConnectionPoolStats::name))
+                .toList();
+    }
+
+    private static final class Tracker implements IMetricsTracker {
+
+        private final String name;
+        private final PoolStats pool;
+        private final LongAdder acquired;
+        private final LongAdder acquireNanos;
+        private final LongAdder released;
+        private final LongAdder usageMillis;
+        private final LongAdder timeouts;
+
+        private Tracker(final String name, final PoolStats pool) {
+            this.name = name;
+            this.pool = pool;
+            this.acquired = new LongAdder();
+            this.acquireNanos = new LongAdder();
+            this.released = new LongAdder();
+            this.usageMillis = new LongAdder();
+            this.timeouts = new LongAdder();
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+            this.acquired.increment();
+            this.acquireNanos.add(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(final long elapsedBorrowedMillis) {
+            this.released.increment();
+            this.usageMillis.add(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            this.timeouts.increment();
+        }
+
+        private ConnectionPoolStats stats() {
+            final var acquired = this.acquired.sum();
+            final var released = this.released.sum();
+            return new ConnectionPoolStats(
+                    this.name,
+                    this.pool.getActiveConnections(),
+                    this.pool.getIdleConnections(),
+                    this.pool.getTotalConnections(),
+                    this.pool.getMaxConnections(),
+                    this.pool.getPendingThreads(),
+                    acquired,
+                    this.timeouts.sum(),
+                    acquired == 0 ? 0 : this.acquireNanos.sum() / 1_000_000.0 / acquired,
+                    released == 0 ? 0 : (double) this.usageMillis.sum() / released
+            );
+        }
+    }
+}
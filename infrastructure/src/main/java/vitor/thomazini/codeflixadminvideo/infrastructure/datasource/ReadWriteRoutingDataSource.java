@@ -0,0 +1,32 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends the read-only transactions opened by {@link ReplicaReads} to the replica and everything else to master. The
+ * key is read when the connection is acquired, so it has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for the
+ * connection before the read-only flag is bound to the thread.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String MASTER = "master";
+    public static final String REPLICA = "replica";
+
+    public ReadWriteRoutingDataSource(final DataSource master, final DataSource replica) {
+        setTargetDataSources(Map.of(MASTER, master, REPLICA, replica));
+        setDefaultTargetDataSource(master);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaReads.active() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? REPLICA
+                : MASTER;
+    }
+}
@@ -0,0 +1,44 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * Runs the intercepted query use cases in a read-only transaction and marks the thread so that
+ * {@link ReadWriteRoutingDataSource} serves it from the replica. Other read-only transactions, like the ones Spring
+ * Data opens around findById inside the write flows, stay on master and never validate a write against a lagging
+ * copy.
+ */
+public class ReplicaReads extends TransactionInterceptor {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    public ReplicaReads() {
+        final var readOnly = new DefaultTransactionAttribute();
+        readOnly.setReadOnly(true);
+
+        final var source = new MatchAlwaysTransactionAttributeSource();
+        source.setTransactionAttribute(readOnly);
+        setTransactionAttributeSource(source);
+    }
+
+    public static boolean active() {
+        return ACTIVE.get() != null;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (active()) {
+            return super.invoke(invocation);
+        }
+
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return super.invoke(invocation);
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.genre;
+
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreGateway genreGateway;
+    private final ReadThroughCache<GenreId, Genre> genreCache;
+    private final boolean cachedReads;
+
+    public CachedGenreGateway(
+            final GenreGateway genreGateway,
+            final ReadThroughCache<GenreId, Genre> genreCache
+    ) {
+        this(genreGateway, genreCache, true);
+    }
+
+    private CachedGenreGateway(
+            final GenreGateway genreGateway,
+            final ReadThroughCache<GenreId, Genre> genreCache,
+            final boolean cachedReads
+    ) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.cachedReads = cachedReads;
+    }
+
+    // for the write flows: a genre cached by get by id may have been read from a lagging replica
+    public CachedGenreGateway uncachedReads() {
+        return new CachedGenreGateway(this.genreGateway, this.genreCache, false);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        return this.genreGateway.create(genre);
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        return this.genreGateway.createAll(genres);
+    }
+
+    @Override
+    public void deleteById(final GenreId id) {
+        this.genreGateway.deleteById(id);
+        this.genreCache.invalidate(id);
+    }
+
+    // aggregates are mutable, so the cache never hands out the instance it keeps
+    @Override
+    public Optional<Genre> findById(final GenreId id) {
+        if (!this.cachedReads) {
+            return this.genreGateway.findById(id);
+        }
+        return this.genreCache.get(id, it -> this.genreGateway.findById(it).map(Genre::from))
+                .map(Genre::from);
+    }
+
+    @Override
+    public List<Genre> findByIds(final Iterable<GenreId> ids) {
+        return this.genreGateway.findByIds(ids);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        return update(genre, genre.version());
+    }
+
+    @Override
+    public Genre update(final Genre genre, final Long expectedVersion) {
+        try {
+            return this.genreGateway.update(genre, expectedVersion);
+        } finally {
+            this.genreCache.invalidate(genre.id());
+        }
+    }
+
+    @Override
+    public List<Genre> updateAll(final List<Genre> genres) {
+        final var updated = this.genreGateway.updateAll(genres);
+        genres.forEach(it -> this.genreCache.invalidate(it.id()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.genreGateway.findAll(query);
+    }
+
+    @Override
+    public List<GenreId> existsByIds(final Iterable<GenreId> ids) {
+        return this.genreGateway.existsByIds(ids);
+    }
+}
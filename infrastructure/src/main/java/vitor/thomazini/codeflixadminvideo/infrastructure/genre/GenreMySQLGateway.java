@@ -1,42 +1,135 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.genre;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vitor.thomazini.codeflixadminvideo.application.genre.GenreCategories;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GenreOutput;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreListGateway;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreListOutput;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreGateway;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreCategoryId;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreListRow;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
-import vitor.thomazini.codeflixadminvideo.infrastructure.utils.SpecificationUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.presenters.GenreApiPresenter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.Outbox;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.OutboxEvent;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.QueryPlans;
+import vitor.thomazini.codeflixadminvideo.infrastructure.persistence.SortableTable;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchBackend;
+import vitor.thomazini.codeflixadminvideo.infrastructure.search.SearchableEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.CountCache;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.CursorUtils;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
-public class GenreMySQLGateway implements GenreGateway {
+public class GenreMySQLGateway implements GenreGateway, GenreListGateway {
+
+    private static final String AGGREGATE_TYPE = "genre";
+    private static final String INSERT_CATEGORY = "INSERT INTO genres_categories (genre_id, category_id) VALUES (?, ?)";
+
+    public static final SortableTable SORTABLE = new SortableTable(
+            "genres",
+            Map.of("name", "name", "createdAt", "created_at")
+    );
+
+    private static final QueryPlans<GenreJpaEntity, GenreListRow> PLANS = new QueryPlans<>(
+            GenreJpaEntity.class,
+            GenreListRow.class,
+            GenreListRow.ATTRIBUTES,
+            SORTABLE
+    );
+
+    private static final SearchableEntity<GenreJpaEntity> SEARCHABLE = new SearchableEntity<>(
+            GenreJpaEntity.class,
+            GenreJpaEntity::getId,
+            List.of("name"),
+            it -> List.of(it.getName())
+    );
 
     private final GenreRepository genreRepository;
+    private final SearchBackend searchBackend;
+    private final EntityManager entityManager;
+    private final Outbox outbox;
+    private final CountCache counts;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final SearchBackend searchBackend,
+            final EntityManager entityManager,
+            final Outbox outbox,
+            @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.searchBackend = Objects.requireNonNull(searchBackend);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.counts = new CountCache(countCacheTtl);
     }
 
     @Override
+    @Transactional
     public Genre create(final Genre genre) {
-        return save(genre);
+        return save(genre, OutboxEvent.Type.CREATED);
     }
 
+    // persist skips the select that save issues for entities with assigned ids, so the inserts can be batched
     @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        final var entities = genres.stream()
+                .map(GenreJpaEntity::from)
+                .toList();
+        entities.forEach(this.entityManager::persist);
+        this.counts.invalidate();
+
+        final var created = entities.stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+        created.forEach(it -> record(it, OutboxEvent.Type.CREATED));
+        return created;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final GenreId genreId) {
         final var id = genreId.value();
         if (this.genreRepository.existsById(id)) {
             this.genreRepository.deleteById(id);
+            this.outbox.append(AGGREGATE_TYPE, id, OutboxEvent.Type.DELETED, null);
+            this.counts.invalidate();
         }
     }
 
@@ -47,39 +140,299 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    public List<Genre> findByIds(final Iterable<GenreId> genreIds) {
+        final var ids = StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreId::value)
+                .toList();
+        return toAggregates(this.genreRepository.findAllById(ids));
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre genre) {
-        return save(genre);
+        return update(genre, genre.version());
+    }
+
+    @Override
+    @Transactional
+    public Genre update(final Genre genre, final Long expectedVersion) {
+        final var entity = GenreJpaEntity.from(genre);
+        final var updatedRows = this.genreRepository.updateIfVersion(
+                entity.getId(),
+                expectedVersion,
+                entity.getName(),
+                entity.isActive(),
+                entity.getUpdatedAt(),
+                entity.getDeletedAt()
+        );
+
+        // no row matched: it is a conflict only when the row is still there under another version
+        if (updatedRows == 0 && (expectedVersion == null || !this.genreRepository.existsById(entity.getId()))) {
+            throw NotFoundException.with(Genre.class, genre.id());
+        }
+        if (updatedRows == 0) {
+            throw ConflictException.with(Genre.class, genre.id(), expectedVersion);
+        }
+
+        updateCategories(entity.getId(), genre.categories());
+
+        entity.setVersion(expectedVersion == null ? this.genreRepository.findVersionById(entity.getId()) : expectedVersion + 1);
+        this.searchBackend.updated(SEARCHABLE, entity);
+        final var updated = entity.toAggregate(genre.categories());
+        record(updated, OutboxEvent.Type.UPDATED);
+        this.counts.invalidate();
+        return updated;
+    }
+
+    // the rows and their categories are loaded with a single select first, so merging them does not read each one again
+    @Override
+    @Transactional
+    public List<Genre> updateAll(final List<Genre> genres) {
+        final var ids = genres.stream().map(it -> it.id().value()).toList();
+        final var stored = this.genreRepository.findAllWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(GenreJpaEntity::getId, GenreJpaEntity::getVersion));
+
+        for (final var genre : genres) {
+            final var version = stored.get(genre.id().value());
+            if (version == null) {
+                throw NotFoundException.with(Genre.class, genre.id());
+            }
+            if (version != genre.version()) {
+                throw ConflictException.with(Genre.class, genre.id(), genre.version());
+            }
+        }
+
+        final var merged = genres.stream()
+                .map(GenreJpaEntity::from)
+                .map(this.entityManager::merge)
+                .toList();
+        this.entityManager.flush();
+
+        final var updated = merged.stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+        updated.forEach(it -> record(it, OutboxEvent.Type.UPDATED));
+        this.counts.invalidate();
+        return updated;
     }
 
     @Override
     public Pagination<Genre> findAll(SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+        final var plan = PLANS.plan(query);
+        final var sort = plan.sort();
+
+        final var where = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (query.isKeyset()) {
+            return findAllAfter(query, where, sort, this::toAggregates);
+        }
+
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+
+        if (where == null) {
+            final var slice = PLANS.page(this.entityManager, plan, page.getOffset(), page.getPageSize());
+            return new Pagination<>(
+                    page.getPageNumber(),
+                    page.getPageSize(),
+                    this.counts.totalOf(query, page.getOffset(), slice, () -> PLANS.count(this.entityManager)),
+                    toAggregates(slice.getContent())
+            );
+        }
+
+        final Window<GenreJpaEntity> slice = this.genreRepository.findBy(
+                where(where),
+                (FluentQuery.FetchableFluentQuery<GenreJpaEntity> it) -> it.sortBy(sort)
+                        .limit(page.getPageSize())
+                        .scroll(ScrollPosition.offset(page.getOffset()))
         );
 
+        return new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(query, page.getOffset(), slice, () -> this.genreRepository.count(where(where))),
+                toAggregates(slice.getContent())
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<GenreListOutput> list(final SearchQuery query) {
+        final var plan = PLANS.plan(query);
+
         final var where = Optional.ofNullable(query.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult = this.genreRepository.findAll(where(where), page);
+        if (query.isKeyset()) {
+            return findAllAfter(query, where, plan.sort(), it -> toOutputs(it.stream().map(GenreListRow::from).toList()));
+        }
+
+        final var page = PageRequest.of(query.page(), query.perPage(), plan.sort());
+        final var slice = PLANS.rows(this.entityManager, plan, where, page.getOffset(), page.getPageSize());
+
+        return new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                this.counts.totalOf(query, page.getOffset(), slice, () -> where == null
+                        ? PLANS.count(this.entityManager)
+                        : this.genreRepository.count(where)),
+                toOutputs(slice.getContent())
+        );
+    }
+
+    @Override
+    public List<GenreId> existsByIds(final Iterable<GenreId> genreIds) {
+        final var ids = StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreId::value)
+                .toList();
+        return this.genreRepository.existsByIds(ids).stream()
+                .map(GenreId::from)
+                .toList();
+    }
+
+    private <R> Pagination<R> findAllAfter(
+            final SearchQuery query,
+            final Specification<GenreJpaEntity> where,
+            final Sort sort,
+            final Function<List<GenreJpaEntity>, List<R>> mapper
+    ) {
+        final var position = query.after().isBlank()
+                ? ScrollPosition.keyset()
+                : CursorUtils.decode(query.after(), query.sort(), "id");
+
+        final Window<GenreJpaEntity> window = this.genreRepository.findBy(
+                where(where),
+                (FluentQuery.FetchableFluentQuery<GenreJpaEntity> it) -> it.sortBy(sort)
+                        .limit(query.perPage())
+                        .scroll(position)
+        );
+
+        final var nextCursor = window.hasNext() && !window.isEmpty()
+                ? CursorUtils.encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                query.page(),
+                query.perPage(),
+                Pagination.UNKNOWN_TOTAL,
+                mapper.apply(window.getContent()),
+                nextCursor
         );
     }
 
-    private Genre save(Genre genre) {
-        return this.genreRepository.save(
+    // categories are LAZY, so a page is assembled from its rows plus one batched lookup of their category ids
+    private List<Genre> toAggregates(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final var categoriesByGenre = categoriesOf(genres.stream().map(GenreJpaEntity::getId).toList());
+
+        return genres.stream()
+                .map(it -> it.toAggregate(categoriesByGenre.getOrDefault(it.getId(), List.of()).stream()
+                        .map(CategoryId::from)
+                        .toList()))
+                .toList();
+    }
+
+    private List<GenreListOutput> toOutputs(final List<GenreListRow> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final var categoriesByGenre = categoriesOf(genres.stream().map(GenreListRow::id).toList());
+
+        return genres.stream()
+                .map(it -> it.toOutput(categoriesByGenre.getOrDefault(it.id(), List.of())))
+                .toList();
+    }
+
+    private Map<String, List<String>> categoriesOf(final List<String> genreIds) {
+        return this.genreRepository.findCategoriesByGenreIds(genreIds).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryId::getGenreId,
+                        Collectors.mapping(GenreCategoryId::getCategoryId, Collectors.toList())
+                ));
+    }
+
+    // only the delta is written, so an update that keeps the categories touches no join rows at all
+    private void updateCategories(final String genreId, final List<CategoryId> categories) {
+        final var current = new HashSet<>(this.genreRepository.findCategoryIdsByGenreId(genreId));
+        final var wanted = categories.stream()
+                .map(CategoryId::value)
+                .collect(Collectors.toSet());
+
+        final var removed = current.stream()
+                .filter(it -> !wanted.contains(it))
+                .toList();
+        final var added = wanted.stream()
+                .filter(it -> !current.contains(it))
+                .toList();
+
+        if (!removed.isEmpty()) {
+            this.genreRepository.deleteCategories(genreId, removed);
+        }
+        if (!added.isEmpty()) {
+            insertCategories(genreId, added);
+        }
+    }
+
+    // plain JDBC so the new rows go out as one batch. The version update already holds the genre row, so no other writer
+    // adds the same pair, and a category deleted in the meantime fails the foreign key instead of being dropped
+    private void insertCategories(final String genreId, final List<String> categoryIds) {
+        try {
+            this.entityManager.unwrap(Session.class).doWork(connection -> {
+                try (final var statement = connection.prepareStatement(INSERT_CATEGORY)) {
+                    final var genre = BinaryIdType.toBytes(genreId);
+                    for (final var categoryId : categoryIds) {
+                        statement.setBytes(1, genre);
+                        statement.setBytes(2, BinaryIdType.toBytes(categoryId));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+        } catch (final ConstraintViolationException e) {
+            final var ids = categoryIds.stream().map(CategoryId::from).toList();
+            final var notification = GenreCategories.validate(ids, missingCategories(categoryIds));
+            if (!notification.hasErrors()) {
+                throw e;
+            }
+            throw new NotificationException("Could not update Aggregate Genre %s".formatted(genreId), notification);
+        }
+    }
+
+    // the same message as the use cases' up-front check, so a category deleted after it still answers 422
+    private Set<CategoryId> missingCategories(final List<String> categoryIds) {
+        final var existing = new HashSet<>(this.entityManager
+                .createQuery("select c.id from Category c where c.id in :ids", String.class)
+                .setParameter("ids", categoryIds)
+                .getResultList());
+
+        return categoryIds.stream()
+                .filter(it -> !existing.contains(it))
+                .map(CategoryId::from)
+                .collect(Collectors.toSet());
+    }
+
+    private Genre save(final Genre genre, final OutboxEvent.Type type) {
+        final var saved = this.genreRepository.save(
                 GenreJpaEntity.from(genre)
         ).toAggregate();
+        record(saved, type);
+        this.counts.invalidate();
+        return saved;
+    }
+
+    private void record(final Genre genre, final OutboxEvent.Type type) {
+        this.outbox.append(AGGREGATE_TYPE, genre.id().value(), type, GenreApiPresenter.present(GenreOutput.from(genre)));
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.searchBackend.matching(SEARCHABLE, terms);
     }
 }
@@ -12,6 +12,7 @@ public record GenreResponse(
         @JsonProperty("is_active") Boolean active,
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("updated_at") Instant updatedAt,
-        @JsonProperty("deleted_at") Instant deletedAt
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("version") Long version
 ) {
 }
\ No newline at end of file
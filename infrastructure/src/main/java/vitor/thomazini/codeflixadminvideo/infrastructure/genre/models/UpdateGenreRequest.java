@@ -8,9 +8,14 @@ import java.util.List;
 public record UpdateGenreRequest(
         @JsonProperty("name") String name,
         @JsonProperty("categories_id") List<String> categories,
-        @JsonProperty("is_active") Boolean active
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("version") Long version
 ) {
 
+    public UpdateGenreRequest(final String name, final List<String> categories, final Boolean active) {
+        this(name, categories, active, null);
+    }
+
     public List<String> categories() {
         return this.categories != null ? this.categories : Collections.emptyList();
     }
@@ -2,6 +2,8 @@ package vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.Type;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -10,9 +12,11 @@ import java.util.Objects;
 public class GenreCategoryId implements Serializable {
 
     @Column(name = "genre_id", nullable = false)
+    @Type(BinaryIdType.class)
     private String genreId;
 
     @Column(name = "category_id", nullable = false)
+    @Type(BinaryIdType.class)
     private String categoryId;
 
     public GenreCategoryId() {}
@@ -1,11 +1,14 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -16,6 +19,7 @@ public class GenreJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(BinaryIdType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -27,7 +31,7 @@ public class GenreJpaEntity {
     @OneToMany(
             mappedBy = "genre",
             cascade = CascadeType.ALL,
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             orphanRemoval = true
     )
     private Set<GenreCategoryJpaEntity> categories;
@@ -49,6 +53,10 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public GenreJpaEntity() {}
 
     private GenreJpaEntity(
@@ -57,7 +65,8 @@ public class GenreJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -66,6 +75,7 @@ public class GenreJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static GenreJpaEntity from(final Genre genre) {
@@ -75,7 +85,8 @@ public class GenreJpaEntity {
                 genre.isActive(),
                 genre.createdAt(),
                 genre.updatedAt(),
-                genre.deletedAt()
+                genre.deletedAt(),
+                genre.version()
         );
 
         genre.categories()
@@ -85,14 +96,19 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
+        return toAggregate(this.getCategoriesIds());
+    }
+
+    public Genre toAggregate(final List<CategoryId> categories) {
         return Genre.with(
                 GenreId.from(this.getId()),
                 this.getName(),
                 this.isActive(),
-                this.getCategoriesIds(),
+                new ArrayList<>(categories),
                 this.getCreatedAt(),
                 this.getUpdatedAt(),
-                this.getDeletedAt()
+                this.getDeletedAt(),
+                this.getVersion()
         );
     }
 
@@ -165,4 +181,12 @@ public class GenreJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,25 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence;
+
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreListOutput;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreListRow(
+        String id,
+        String name,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static final List<String> ATTRIBUTES = List.of("id", "name", "active", "createdAt", "deletedAt");
+
+    public static GenreListRow from(final GenreJpaEntity entity) {
+        return new GenreListRow(entity.getId(), entity.getName(), entity.isActive(), entity.getCreatedAt(), entity.getDeletedAt());
+    }
+
+    public GenreListOutput toOutput(final List<String> categories) {
+        return new GenreListOutput(id, name, active, categories, createdAt, deletedAt);
+    }
+}
@@ -1,11 +1,75 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @EntityGraph(attributePaths = "categories")
+    @Query(value = "select g from GenreJpaEntity g where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategoriesByIdIn(@Param("ids") Collection<String> ids);
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    @Query(value = "select g.id from GenreJpaEntity g where g.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<GenreCategoryId> findCategoriesByGenreIds(@Param("ids") Collection<String> ids);
+
+    // a null version matches any
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update GenreJpaEntity g set g.name = :name, g.active = :active, g.updatedAt = :updatedAt, "
+            + "g.deletedAt = :deletedAt, g.version = g.version + 1 where g.id = :id "
+            + "and (:version is null or g.version = :version)")
+    int updateIfVersion(
+            @Param("id") String id,
+            @Param("version") Long version,
+            @Param("name") String name,
+            @Param("active") boolean active,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("deletedAt") Instant deletedAt
+    );
+
+    @Query(value = "select g.version from GenreJpaEntity g where g.id = :id")
+    long findVersionById(@Param("id") String id);
+
+    @Query(value = "select gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId = :id")
+    List<String> findCategoryIdsByGenreId(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "delete from GenreCategoryJpaEntity gc where gc.id.genreId = :id and gc.id.categoryId in :categoryIds")
+    int deleteCategories(@Param("id") String id, @Param("categoryIds") Collection<String> categoryIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "select g from GenreJpaEntity g order by g.id")
+    Stream<GenreJpaEntity> streamAll();
+
+    // same order as streamAll, so both cursors can be merged without holding either in memory
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "select gc.id from GenreCategoryJpaEntity gc order by gc.id.genreId")
+    Stream<GenreCategoryId> streamAllCategoryIds();
 }
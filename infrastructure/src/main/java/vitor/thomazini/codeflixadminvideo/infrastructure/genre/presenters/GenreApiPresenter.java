@@ -15,7 +15,8 @@ public interface GenreApiPresenter {
                 output.isActive(),
                 output.createdAt(),
                 output.updatedAt(),
-                output.deletedAt()
+                output.deletedAt(),
+                output.version()
         );
     }
 
@@ -0,0 +1,29 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(GatewayEvent.NAME)
+@Label("Gateway Operation")
+@Category({"Codeflix", "Gateways"})
+@Description("A call into a MySQL gateway, with the number of aggregates or rows it returned")
+@StackTrace(false)
+public class GatewayEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "codeflix.Gateway";
+
+    @Label("Gateway")
+    public String gateway;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
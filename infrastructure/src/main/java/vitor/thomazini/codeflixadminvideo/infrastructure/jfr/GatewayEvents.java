@@ -0,0 +1,48 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link GatewayEvent} around every gateway call. While the event is disabled this is a begin and a
+ * shouldCommit check, and the fields are only filled in for events that are recorded.
+ */
+public class GatewayEvents implements MethodInterceptor {
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var event = new GatewayEvent();
+        event.begin();
+
+        Object result = null;
+        var failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                event.gateway = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+                event.operation = invocation.getMethod().getName();
+                event.rows = rowsOf(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static int rowsOf(final Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Pagination<?> pagination -> pagination.items().size();
+            case Collection<?> collection -> collection.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            default -> 1;
+        };
+    }
+}
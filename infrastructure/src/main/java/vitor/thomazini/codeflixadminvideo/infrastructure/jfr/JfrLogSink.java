@@ -0,0 +1,72 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the application's JFR events slower than the threshold into the log, for environments without a recording
+ * being dumped. Disabled by default: when nothing enables the events they cost next to nothing, while this stream
+ * keeps them on.
+ */
+public class JfrLogSink implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrLogSink.class);
+
+    private static final List<String> EVENTS = List.of(UseCaseEvent.NAME, GatewayEvent.NAME, JsonEvent.NAME);
+    private static final List<String> BUILT_IN_FIELDS = List.of("startTime", "duration", "eventThread");
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public JfrLogSink(final Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (this.stream != null) {
+            return;
+        }
+
+        this.stream = new RecordingStream();
+        EVENTS.forEach(it -> this.stream.enable(it).withThreshold(this.threshold));
+        this.stream.onEvent(JfrLogSink::log);
+        this.stream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.stream == null) {
+            return;
+        }
+
+        this.stream.close();
+        this.stream = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return this.stream != null;
+    }
+
+    private static void log(final RecordedEvent event) {
+        LOGGER.info(
+                "{} took {} ms: {}",
+                event.getEventType().getName(),
+                event.getDuration().toMillis(),
+                event.getFields().stream()
+                        .map(ValueDescriptor::getName)
+                        .filter(it -> !BUILT_IN_FIELDS.contains(it))
+                        .map(it -> it + "=" + event.getValue(it))
+                        .collect(Collectors.joining(", "))
+        );
+    }
+}
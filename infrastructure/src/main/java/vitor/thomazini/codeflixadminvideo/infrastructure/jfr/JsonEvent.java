@@ -0,0 +1,47 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(JsonEvent.NAME)
+@Label("JSON Serialization")
+@Category({"Codeflix", "JSON"})
+@Description("A Json.writeValue or Json.readValue call")
+@StackTrace(false)
+public class JsonEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "codeflix.Json";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+
+    // the UTF-8 length without encoding the string, only paid for when the event is committed
+    public static long utf8Length(final String json) {
+        var bytes = 0L;
+        for (int i = 0; i < json.length(); i++) {
+            final var c = json.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,119 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the jdk.VirtualThreadPinned events, raised when a virtual thread blocks while holding a monitor and so keeps
+ * its carrier thread. Each event is attributed to the first frame outside the JDK, which is usually the
+ * synchronized code of a driver or library.
+ */
+public class PinningMonitor implements SmartLifecycle {
+
+    public static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PinningMonitor.class);
+    private static final int TOP_FRAMES = 10;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final LongAdder pinned;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+    private final Map<String, LongAdder> frames;
+    private RecordingStream stream;
+
+    public PinningMonitor(final boolean enabled, final Duration threshold) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.pinned = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+        this.frames = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return this.enabled;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (this.stream != null) {
+            return;
+        }
+
+        this.stream = new RecordingStream();
+        this.stream.enable(EVENT).withThreshold(this.threshold).withStackTrace();
+        this.stream.onEvent(EVENT, this::record);
+        this.stream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.stream == null) {
+            return;
+        }
+
+        this.stream.close();
+        this.stream = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return this.stream != null;
+    }
+
+    public PinningStats stats() {
+        final var top = new LinkedHashMap<String, Long>();
+        this.frames.entrySet().stream()
+                .map(it -> Map.entry(it.getKey(), it.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP_FRAMES)
+                .forEach(it -> top.put(it.getKey(), it.getValue()));
+
+        return new PinningStats(
+                isRunning(),
+                this.pinned.sum(),
+                this.totalNanos.sum() / 1_000_000.0,
+                this.maxNanos.get() / 1_000_000.0,
+                top
+        );
+    }
+
+    private void record(final RecordedEvent event) {
+        final var nanos = event.getDuration().toNanos();
+        final var frame = culpritOf(event);
+
+        this.pinned.increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulateAndGet(nanos, Math::max);
+        this.frames.computeIfAbsent(frame, it -> new LongAdder()).increment();
+
+        LOGGER.debug("Virtual thread pinned its carrier for {} ms at {}", nanos / 1_000_000, frame);
+    }
+
+    private static String culpritOf(final RecordedEvent event) {
+        final var stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(it -> it.getMethod().getType().getName() + "." + it.getMethod().getName())
+                .filter(it -> !it.startsWith("java.") && !it.startsWith("jdk.") && !it.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import java.util.Map;
+
+public record PinningStats(
+        boolean running,
+        long pinned,
+        double totalMillis,
+        double maxMillis,
+        Map<String, Long> topFrames
+) {
+}
@@ -0,0 +1,23 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(UseCaseEvent.NAME)
+@Label("Use Case Execution")
+@Category({"Codeflix", "Use Cases"})
+@Description("An execute call of a use case bean, with how it ended")
+@StackTrace(false)
+public class UseCaseEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "codeflix.UseCase";
+
+    @Label("Use Case")
+    public String useCase;
+
+    @Label("Outcome")
+    public String outcome;
+}
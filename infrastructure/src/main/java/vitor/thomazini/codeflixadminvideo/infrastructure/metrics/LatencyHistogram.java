@@ -0,0 +1,105 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram. Percentiles are reported as the upper bound of the bucket they fall in, or as the
+ * slowest sample once they land past the last bound.
+ */
+public final class LatencyHistogram {
+
+    private static final double[] BOUNDS_MILLIS = {1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_MILLIS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_MILLIS[i] * 1_000_000);
+        }
+    }
+
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+
+    public LatencyHistogram() {
+        this.buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+    }
+
+    public void record(final long nanos) {
+        var bucket = 0;
+        while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        this.buckets[bucket].increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        var count = 0L;
+        for (final var bucket : this.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double meanMillis() {
+        final var count = count();
+        return count == 0 ? 0 : this.totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double maxMillis() {
+        return this.maxNanos.get() / 1_000_000.0;
+    }
+
+    public double percentileMillis(final double percentile) {
+        final var counts = counts();
+        var total = 0L;
+        for (final var count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final var rank = (long) Math.ceil(percentile * total);
+        var seen = 0L;
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BOUNDS_MILLIS[i];
+            }
+        }
+        return maxMillis();
+    }
+
+    // cumulative, keyed by the upper bound in milliseconds like a Prometheus "le" label
+    public Map<String, Long> buckets() {
+        final var counts = counts();
+        final var buckets = new LinkedHashMap<String, Long>();
+        var seen = 0L;
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            seen += counts[i];
+            buckets.put(BigDecimal.valueOf(BOUNDS_MILLIS[i]).stripTrailingZeros().toPlainString(), seen);
+        }
+        buckets.put("+Inf", seen + counts[BOUNDS_MILLIS.length]);
+        return buckets;
+    }
+
+    private long[] counts() {
+        final var counts = new long[this.buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,71 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL counters of the request running on the current thread, bound by {@link SqlMetricsFilter}. Work forked to other
+ * threads is not counted.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions;
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+
+    private RequestSqlStats() {
+        this.executions = new HashMap<>();
+    }
+
+    public static RequestSqlStats bind() {
+        final var stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    void statement(final String sql) {
+        this.statements++;
+        this.executions.merge(sql, 1, Integer::sum);
+    }
+
+    void executed(final long nanos) {
+        this.jdbcNanos += nanos;
+    }
+
+    void fetched() {
+        this.rows++;
+    }
+
+    public int statements() {
+        return this.statements;
+    }
+
+    public long jdbcNanos() {
+        return this.jdbcNanos;
+    }
+
+    public double jdbcMillis() {
+        return this.jdbcNanos / 1_000_000.0;
+    }
+
+    public long rows() {
+        return this.rows;
+    }
+
+    // the statement a N+1 fan-out repeats once per parent row
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return this.executions.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
@@ -0,0 +1,128 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Times the statements and counts the rows fetched by the current request, and warns about single statements slower
+ * than the threshold. Connections taken outside a request, like the Flyway migrations or the outbox relay, are handed
+ * out untouched.
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlMetricsDataSource.class);
+
+    private final long slowStatementNanos;
+
+    public SqlMetricsDataSource(final DataSource target, final Duration slowStatement) {
+        super(target);
+        this.slowStatementNanos = slowStatement.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    // the target's pool is created by this bean's definition, so its shutdown has to be forwarded
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection track(final Connection connection) {
+        final var stats = RequestSqlStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (method, args) -> {
+            final var result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                final var sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return proxy(method.getReturnType(), statement, (m, a) -> execute(stats, statement, sql, m, a));
+            }
+            return result;
+        });
+    }
+
+    private Object execute(
+            final RequestSqlStats stats,
+            final Statement statement,
+            final String preparedSql,
+            final Method method,
+            final Object[] args
+    ) throws Throwable {
+        final Object result;
+        if (method.getName().startsWith("execute")) {
+            final var start = System.nanoTime();
+            try {
+                result = invoke(statement, method, args);
+            } finally {
+                final var elapsed = System.nanoTime() - start;
+                stats.executed(elapsed);
+                if (elapsed > this.slowStatementNanos) {
+                    final var sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? args[0] : null;
+                    LOGGER.warn("Slow statement took {} ms: {}", elapsed / 1_000_000, sql);
+                }
+            }
+        } else {
+            result = invoke(statement, method, args);
+        }
+
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, (m, a) -> {
+                final var next = invoke(resultSet, m, a);
+                if (Boolean.TRUE.equals(next) && m.getName().equals("next")) {
+                    stats.fetched();
+                }
+                return next;
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Object target, final Handler handler) {
+        return (T) Proxy.newProxyInstance(
+                SqlMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.handle(method, args);
+                }
+        );
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,133 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Counts the SQL of each request and records it per route. Requests over the statement budget are logged with their
+ * most repeated statement. The X-SQL-* headers buffer the body until the counts are known, so they are meant for
+ * non-production profiles only. Streamed responses, such as the catalog export, are never buffered and get no headers:
+ * their body is written after the request thread has left this filter.
+ */
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String OVER_BUDGET_HEADER = "X-SQL-Over-Budget";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    // set through ShallowEtagHeaderFilter.disableContentCaching by the Spring MVC handlers of streamed bodies
+    private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+    private final SqlRequestMetrics metrics;
+    private final int statementBudget;
+    private final boolean responseHeaders;
+
+    public SqlMetricsFilter(final SqlRequestMetrics metrics, final int statementBudget, final boolean responseHeaders) {
+        this.metrics = Objects.requireNonNull(metrics);
+        this.statementBudget = statementBudget;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var stats = RequestSqlStats.bind();
+        final var buffered = this.responseHeaders ? new BufferedResponse(request, response) : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestSqlStats.unbind();
+
+            final var route = routeOf(request);
+            final var overBudget = stats.statements() > this.statementBudget;
+            this.metrics.record(route, stats, overBudget);
+
+            if (overBudget) {
+                final var repeated = stats.mostRepeated();
+                LOGGER.warn(
+                        "{} ran {} statements, over the budget of {}; most repeated ({}x): {}",
+                        route,
+                        stats.statements(),
+                        this.statementBudget,
+                        repeated.map(Map.Entry::getValue).orElse(0),
+                        repeated.map(Map.Entry::getKey).orElse(null)
+                );
+            } else if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                        "{} ran {} statements in {} ms and fetched {} rows",
+                        route,
+                        stats.statements(),
+                        millis(stats),
+                        stats.rows()
+                );
+            }
+
+            if (buffered != null && !request.isAsyncStarted()) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+                buffered.setHeader(TIME_HEADER, millis(stats));
+                buffered.setHeader(ROWS_HEADER, String.valueOf(stats.rows()));
+                if (overBudget) {
+                    buffered.setHeader(OVER_BUDGET_HEADER, "true");
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    // hands out the real stream once the handler marks the body as streamed, so nothing is held back for headers that
+    // could only be written after the last byte
+    private static final class BufferedResponse extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private BufferedResponse(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreamed() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreamed() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        private boolean isStreamed() {
+            return this.request.getAttribute(STREAMING_ATTRIBUTE) != null;
+        }
+    }
+
+    // the matched pattern keeps ids out of the route names
+    private static String routeOf(final HttpServletRequest request) {
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private static String millis(final RequestSqlStats stats) {
+        return String.format(Locale.ROOT, "%.3f", stats.jdbcMillis());
+    }
+}
@@ -0,0 +1,76 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL totals per route, fed by {@link SqlMetricsFilter} once each request completes.
+ */
+public final class SqlRequestMetrics {
+
+    private final Map<String, Recorder> recorders;
+
+    public SqlRequestMetrics() {
+        this.recorders = new ConcurrentHashMap<>();
+    }
+
+    public void record(final String route, final RequestSqlStats stats, final boolean overBudget) {
+        this.recorders.computeIfAbsent(route, Recorder::new).record(stats, overBudget);
+    }
+
+    public List<SqlRouteStats> stats() {
+        return this.recorders.values().stream()
+                .map(Recorder::stats)
+                .sorted(Comparator.comparing(SqlRouteStats::route))
+                .toList();
+    }
+
+    private static final class Recorder {
+
+        private final String route;
+        private final LongAdder requests;
+        private final LongAdder statements;
+        private final AtomicLong maxStatements;
+        private final LongAdder jdbcNanos;
+        private final LongAdder rows;
+        private final LongAdder overBudget;
+
+        private Recorder(final String route) {
+            this.route = route;
+            this.requests = new LongAdder();
+            this.statements = new LongAdder();
+            this.maxStatements = new AtomicLong();
+            this.jdbcNanos = new LongAdder();
+            this.rows = new LongAdder();
+            this.overBudget = new LongAdder();
+        }
+
+        private void record(final RequestSqlStats stats, final boolean overBudget) {
+            this.requests.increment();
+            this.statements.add(stats.statements());
+            this.maxStatements.accumulateAndGet(stats.statements(), Math::max);
+            this.jdbcNanos.add(stats.jdbcNanos());
+            this.rows.add(stats.rows());
+            if (overBudget) {
+                this.overBudget.increment();
+            }
+        }
+
+        private SqlRouteStats stats() {
+            final var requests = this.requests.sum();
+            return new SqlRouteStats(
+                    this.route,
+                    requests,
+                    requests == 0 ? 0 : (double) this.statements.sum() / requests,
+                    this.maxStatements.get(),
+                    requests == 0 ? 0 : this.jdbcNanos.sum() / 1_000_000.0 / requests,
+                    requests == 0 ? 0 : (double) this.rows.sum() / requests,
+                    this.overBudget.sum()
+            );
+        }
+    }
+}
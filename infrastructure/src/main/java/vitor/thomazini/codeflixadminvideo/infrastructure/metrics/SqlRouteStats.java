@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+public record SqlRouteStats(
+        String route,
+        long requests,
+        double meanStatements,
+        long maxStatements,
+        double meanJdbcMillis,
+        double meanRows,
+        long overBudget
+) {
+}
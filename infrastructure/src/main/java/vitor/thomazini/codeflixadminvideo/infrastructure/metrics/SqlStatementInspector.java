@@ -0,0 +1,19 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements Hibernate prepares for the current request. Statements written straight to JDBC, like the
+ * genre category batch inserts, are not seen here.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        final var stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+        return sql;
+    }
+}
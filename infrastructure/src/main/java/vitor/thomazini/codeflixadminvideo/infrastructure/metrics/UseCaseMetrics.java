@@ -0,0 +1,83 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, error and in-flight counters per use case, with errors split by {@link UseCaseOutcome}.
+ */
+public final class UseCaseMetrics {
+
+    private final Map<String, Recorder> recorders;
+
+    public UseCaseMetrics() {
+        this.recorders = new ConcurrentHashMap<>();
+    }
+
+    public Recorder recorder(final String useCase) {
+        return this.recorders.computeIfAbsent(useCase, Recorder::new);
+    }
+
+    public List<UseCaseStats> stats() {
+        return this.recorders.values().stream()
+                .map(Recorder::stats)
+                .sorted(Comparator.comparing(UseCaseStats::name))
+                .toList();
+    }
+
+    public static final class Recorder {
+
+        private final String name;
+        private final LatencyHistogram latency;
+        private final AtomicInteger inFlight;
+        private final LongAdder notFound;
+        private final LongAdder notification;
+        private final LongAdder otherErrors;
+
+        private Recorder(final String name) {
+            this.name = name;
+            this.latency = new LatencyHistogram();
+            this.inFlight = new AtomicInteger();
+            this.notFound = new LongAdder();
+            this.notification = new LongAdder();
+            this.otherErrors = new LongAdder();
+        }
+
+        public long start() {
+            this.inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void stop(final long start, final UseCaseOutcome outcome) {
+            switch (outcome) {
+                case NOT_FOUND -> this.notFound.increment();
+                case NOTIFICATION -> this.notification.increment();
+                case ERROR -> this.otherErrors.increment();
+                case SUCCESS -> {
+                }
+            }
+            this.latency.record(System.nanoTime() - start);
+            this.inFlight.decrementAndGet();
+        }
+
+        private UseCaseStats stats() {
+            return new UseCaseStats(
+                    this.name,
+                    this.latency.count(),
+                    this.inFlight.get(),
+                    this.notFound.sum(),
+                    this.notification.sum(),
+                    this.otherErrors.sum(),
+                    this.latency.meanMillis(),
+                    this.latency.percentileMillis(0.5),
+                    this.latency.percentileMillis(0.99),
+                    this.latency.maxMillis(),
+                    this.latency.buckets()
+            );
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import io.vavr.control.Either;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
+
+/**
+ * How a use case call ended. A use case that answers with a left {@link Either} failed validation the same way one
+ * throwing {@link NotificationException} did, so both are notifications.
+ */
+public enum UseCaseOutcome {
+    SUCCESS,
+    NOT_FOUND,
+    NOTIFICATION,
+    ERROR;
+
+    public static UseCaseOutcome of(final Object output) {
+        return output instanceof Either<?, ?> either && either.isLeft() ? NOTIFICATION : SUCCESS;
+    }
+
+    public static UseCaseOutcome of(final Throwable error) {
+        return switch (error) {
+            case NotFoundException ignored -> NOT_FOUND;
+            case NotificationException ignored -> NOTIFICATION;
+            default -> ERROR;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import java.util.Map;
+
+public record UseCaseStats(
+        String name,
+        long calls,
+        int inFlight,
+        long notFound,
+        long notification,
+        long otherErrors,
+        double meanMillis,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis,
+        Map<String, Long> latencyBuckets
+) {
+}
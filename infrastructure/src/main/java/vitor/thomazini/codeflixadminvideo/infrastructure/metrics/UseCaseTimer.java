@@ -0,0 +1,52 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.jfr.UseCaseEvent;
+
+import java.util.Objects;
+
+/**
+ * Times the execute calls of the use case beans, naming each after its implementation without the Default prefix,
+ * and emits a {@link UseCaseEvent} for recordings that enable it.
+ */
+public class UseCaseTimer implements MethodInterceptor {
+
+    private final UseCaseMetrics metrics;
+
+    public UseCaseTimer(final UseCaseMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var name = nameOf(invocation.getThis());
+        final var recorder = this.metrics.recorder(name);
+        final var event = new UseCaseEvent();
+        event.begin();
+        final var start = recorder.start();
+
+        var outcome = UseCaseOutcome.ERROR;
+        try {
+            final var output = invocation.proceed();
+            outcome = UseCaseOutcome.of(output);
+            return output;
+        } catch (final Throwable t) {
+            outcome = UseCaseOutcome.of(t);
+            throw t;
+        } finally {
+            recorder.stop(start, outcome);
+            if (event.shouldCommit()) {
+                event.useCase = name;
+                event.outcome = outcome.name();
+                event.commit();
+            }
+        }
+    }
+
+    private static String nameOf(final Object useCase) {
+        final var name = AopUtils.getTargetClass(useCase).getSimpleName();
+        return name.startsWith("Default") ? name.substring("Default".length()) : name;
+    }
+}
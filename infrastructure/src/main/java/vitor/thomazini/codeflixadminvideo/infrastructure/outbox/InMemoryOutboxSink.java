@@ -0,0 +1,40 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues events for consumers in the same process. A batch that does not fit is refused whole, so it stays in the
+ * outbox until the consumers catch up.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxEvent> queue;
+
+    public InMemoryOutboxSink(final int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxEvent> events) {
+        if (this.queue.remainingCapacity() < events.size()) {
+            throw new IllegalStateException("Outbox queue is full");
+        }
+        this.queue.addAll(events);
+    }
+
+    public Optional<OutboxEvent> poll(final Duration timeout) throws InterruptedException {
+        return Optional.ofNullable(this.queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    public List<OutboxEvent> drain() {
+        final var events = new ArrayList<OutboxEvent>();
+        this.queue.drainTo(events);
+        return events;
+    }
+}
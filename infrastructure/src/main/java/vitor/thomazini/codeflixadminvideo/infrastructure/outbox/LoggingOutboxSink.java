@@ -0,0 +1,30 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Writes each event as one line of the {@code outbox} logger, for a log shipper to forward. It never refuses a batch,
+ * so the outbox always drains.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("outbox");
+
+    @Override
+    public void publish(final List<OutboxEvent> events) {
+        for (final var event : events) {
+            LOGGER.info(
+                    "id={} aggregateType={} aggregateId={} type={} occurredAt={} payload={}",
+                    event.id(),
+                    event.aggregateType(),
+                    event.aggregateId(),
+                    event.type(),
+                    event.occurredAt(),
+                    event.payload()
+            );
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import vitor.thomazini.codeflixadminvideo.domain.utils.InstantUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records aggregate changes in the transaction that writes them, so an event exists if and only if the change was
+ * committed. Ids are assigned here, which keeps the inserts batchable: the high half is the epoch millis followed by a
+ * counter, so events from this process sort in the order they were appended, and the low half tells processes apart.
+ */
+@Component
+public class Outbox {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int COUNTER_BITS = 20;
+
+    private final EntityManager entityManager;
+    private final ListVersions listVersions;
+    private final AtomicLong sequence = new AtomicLong();
+    private final String node = HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+
+    public Outbox(final EntityManager entityManager, final ListVersions listVersions) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.listVersions = Objects.requireNonNull(listVersions);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(
+            final String aggregateType,
+            final String aggregateId,
+            final OutboxEvent.Type type,
+            final Object payload
+    ) {
+        final var event = new OutboxEvent(
+                nextId(),
+                aggregateType,
+                aggregateId,
+                type,
+                payload == null ? null : Json.writeValue(payload),
+                InstantUtils.now()
+        );
+        this.entityManager.persist(OutboxEventJpaEntity.from(event));
+        this.listVersions.changed(aggregateType);
+    }
+
+    private String nextId() {
+        final var floor = System.currentTimeMillis() << COUNTER_BITS;
+        return HEX.toHexDigits(this.sequence.updateAndGet(last -> Math.max(last + 1, floor))) + this.node;
+    }
+}
@@ -0,0 +1,21 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import java.time.Instant;
+
+/**
+ * A change to an aggregate, as handed to an {@link OutboxSink}. The payload is the aggregate's API representation
+ * after the change, or null when it was deleted.
+ */
+public record OutboxEvent(
+        String id,
+        String aggregateType,
+        String aggregateId,
+        Type type,
+        String payload,
+        Instant occurredAt
+) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
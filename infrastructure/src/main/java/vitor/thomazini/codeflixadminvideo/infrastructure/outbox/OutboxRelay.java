@@ -0,0 +1,108 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence.OutboxEventRepository;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves outbox rows to the {@link OutboxSink} in batches, oldest first. Each batch is published and deleted in one
+ * transaction, so a failed publish is retried on the next run. Runs every {@code outbox.relay.interval} unless
+ * {@code outbox.relay.enabled} is false; {@link #relay()} can also be called directly.
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration interval;
+    private final boolean enabled;
+
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final OutboxSink sink,
+            final PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${outbox.relay.interval:1s}") final Duration interval,
+            @Value("${outbox.relay.enabled:true}") final boolean enabled
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.repository = Objects.requireNonNull(repository);
+        this.sink = Objects.requireNonNull(sink);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.batchSize = batchSize;
+        this.interval = Objects.requireNonNull(interval);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Publishes the oldest batch of events and returns how many there were.
+     */
+    public int relay() {
+        final Integer published = this.transactionTemplate.execute(status -> {
+            final var rows = this.repository.findNext(PageRequest.ofSize(this.batchSize));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            this.sink.publish(rows.stream().map(OutboxEventJpaEntity::toEvent).toList());
+            this.repository.deleteAllInBatch(rows);
+            return rows.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    // a full batch means more may be waiting, so keep going until one comes back short
+    private void relayAll() {
+        try {
+            var published = 0;
+            do {
+                published = relay();
+            } while (published == this.batchSize);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Outbox relay failed, retrying in {}", this.interval, e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!this.enabled || this.executor != null) {
+            return;
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-relay").daemon().factory());
+        this.executor.scheduleWithFixedDelay(this::relayAll, this.interval.toMillis(), this.interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.executor != null) {
+            this.executor.shutdown();
+            this.executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return this.executor != null;
+    }
+}
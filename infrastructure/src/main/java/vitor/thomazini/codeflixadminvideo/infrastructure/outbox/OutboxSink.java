@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Where the {@link OutboxRelay} publishes events. A batch is removed from the outbox only after {@link #publish}
+ * returns, so throwing leaves it to be published again: consumers must tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,99 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.OutboxEvent;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.BinaryIdType;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @Type(BinaryIdType.class)
+    private String id;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Type(BinaryIdType.class)
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEvent.Type eventType;
+
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredAt;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String id,
+            final String aggregateType,
+            final String aggregateId,
+            final OutboxEvent.Type eventType,
+            final String payload,
+            final Instant occurredAt
+    ) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OutboxEventJpaEntity from(final OutboxEvent event) {
+        return new OutboxEventJpaEntity(
+                event.id(),
+                event.aggregateType(),
+                event.aggregateId(),
+                event.type(),
+                event.payload(),
+                event.occurredAt()
+        );
+    }
+
+    public OutboxEvent toEvent() {
+        return new OutboxEvent(
+                getId(),
+                getAggregateType(),
+                getAggregateId(),
+                getEventType(),
+                getPayload(),
+                getOccurredAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public OutboxEvent.Type getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,17 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    // the row locks make a second relay wait for the first to commit, and the rows it published are gone by then
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select e from OutboxEvent e order by e.id")
+    List<OutboxEventJpaEntity> findNext(Pageable page);
+}
@@ -0,0 +1,21 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Matches the public methods of the *MySQLGateway beans, the calls that reach the database.
+ */
+public class GatewayPointcut extends StaticMethodMatcherPointcut {
+
+    public GatewayPointcut() {
+        setClassFilter(type -> type.getSimpleName().endsWith("MySQLGateway"));
+    }
+
+    @Override
+    public boolean matches(final Method method, final Class<?> targetClass) {
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+}
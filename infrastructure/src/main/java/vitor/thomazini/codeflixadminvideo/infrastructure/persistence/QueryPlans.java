@@ -0,0 +1,147 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The list plans of one aggregate, built once for every allowed sort and direction. Pages without terms run a fixed
+ * JPQL string, which Hibernate parses once and keeps in its query plan cache, instead of a Criteria query assembled on
+ * every call. Pages with terms still need the search backend's specification, but reuse the prebuilt {@link Sort}.
+ * <p>
+ * Rows are read either as entities or, for the list endpoints, as {@code R} built by a constructor expression over
+ * {@code attributes}, which are neither managed nor dirty checked.
+ */
+public final class QueryPlans<T, R> {
+
+    private static final String ASC = "asc";
+    private static final String DESC = "desc";
+
+    private final Class<T> type;
+    private final Class<R> row;
+    private final List<String> attributes;
+    private final String count;
+    private final String allowedSorts;
+    private final Map<String, Plan> plans;
+
+    public QueryPlans(
+            final Class<T> type,
+            final Class<R> row,
+            final List<String> attributes,
+            final SortableTable sortable
+    ) {
+        this.type = Objects.requireNonNull(type);
+        this.row = Objects.requireNonNull(row);
+        this.attributes = List.copyOf(attributes);
+
+        final var entity = entityName(type);
+        final var constructor = "new %s(%s)".formatted(
+                row.getName(),
+                this.attributes.stream().map(it -> "e." + it).collect(Collectors.joining(", "))
+        );
+
+        this.count = "select count(e) from %s e".formatted(entity);
+        this.allowedSorts = String.join(", ", new TreeSet<>(sortable.columns().keySet()));
+        this.plans = new HashMap<>();
+
+        for (final var field : sortable.columns().keySet()) {
+            for (final var direction : new String[]{ASC, DESC}) {
+                final var orderBy = " from %s e order by e.%s %s".formatted(entity, field, direction);
+                this.plans.put(key(field, direction), new Plan(
+                        Sort.by(Sort.Direction.fromString(direction), field),
+                        "select e" + orderBy,
+                        "select " + constructor + orderBy
+                ));
+            }
+        }
+    }
+
+    /**
+     * Returns the plan of the query's sort and direction, or fails with a validation error when it is not allowed.
+     */
+    public Plan plan(final SearchQuery query) {
+        final var direction = query.direction() == null ? ASC : query.direction().toLowerCase(Locale.ROOT);
+        if (!ASC.equals(direction) && !DESC.equals(direction)) {
+            throw DomainException.with(new Error("'%s' is not a valid direction, expected asc or desc".formatted(query.direction())));
+        }
+
+        final var plan = this.plans.get(key(query.sort(), direction));
+        if (plan == null) {
+            throw DomainException.with(new Error("'%s' is not a valid sort, expected one of: %s".formatted(query.sort(), this.allowedSorts)));
+        }
+        return plan;
+    }
+
+    public Window<T> page(final EntityManager entityManager, final Plan plan, final long offset, final int limit) {
+        return window(entityManager.createQuery(plan.select(), this.type), offset, limit);
+    }
+
+    public Window<R> rows(
+            final EntityManager entityManager,
+            final Plan plan,
+            final Specification<T> where,
+            final long offset,
+            final int limit
+    ) {
+        if (where == null) {
+            return window(entityManager.createQuery(plan.rows(), this.row), offset, limit);
+        }
+
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(this.row);
+        final var root = query.from(this.type);
+        query.select(cb.construct(this.row, this.attributes.stream().map(root::get).toArray(Selection[]::new)))
+                .where(where.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(plan.sort(), root, cb));
+
+        return window(entityManager.createQuery(query), offset, limit);
+    }
+
+    public long count(final EntityManager entityManager) {
+        return entityManager.createQuery(this.count, Long.class).getSingleResult();
+    }
+
+    // one extra row tells whether another page follows, like the offset scroll of the repositories does
+    private static <E> Window<E> window(final TypedQuery<E> query, final long offset, final int limit) {
+        final var rows = query
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > limit;
+        return Window.from(
+                hasNext ? rows.subList(0, limit) : rows,
+                index -> ScrollPosition.offset(offset + index),
+                hasNext
+        );
+    }
+
+    private static String key(final String field, final String direction) {
+        return field + ':' + direction;
+    }
+
+    private static String entityName(final Class<?> type) {
+        final var entity = type.getAnnotation(Entity.class);
+        return entity == null || entity.name().isEmpty() ? type.getSimpleName() : entity.name();
+    }
+
+    public record Plan(Sort sort, String select, String rows) {
+    }
+}
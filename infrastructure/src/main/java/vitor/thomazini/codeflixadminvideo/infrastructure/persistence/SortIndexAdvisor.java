@@ -0,0 +1,92 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.CastMemberMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.CategoryMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.GenreMySQLGateway;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Warns at startup about sort fields whose column does not lead any index, since those lists sort the whole table on
+ * every page. Runs once the application is ready, so the Flyway migrations have already been applied.
+ */
+@Component
+public class SortIndexAdvisor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SortIndexAdvisor.class);
+
+    private static final List<SortableTable> SORTABLES = List.of(
+            CategoryMySQLGateway.SORTABLE,
+            GenreMySQLGateway.SORTABLE,
+            CastMemberMySQLGateway.SORTABLE
+    );
+
+    private final DataSource dataSource;
+
+    public SortIndexAdvisor(final DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void advise() {
+        try {
+            unindexedSorts().forEach(it -> LOGGER.warn("Sorting by {} is not backed by an index", it));
+        } catch (final SQLException e) {
+            LOGGER.warn("Could not read the index metadata, skipping the sort index check", e);
+        }
+    }
+
+    /**
+     * Returns the unindexed sorts as {@code table.column (field)}.
+     */
+    public List<String> unindexedSorts() throws SQLException {
+        final var unindexed = new ArrayList<String>();
+        try (final var connection = this.dataSource.getConnection()) {
+            final var metaData = connection.getMetaData();
+            for (final var sortable : SORTABLES) {
+                final var leading = leadingColumns(metaData, connection.getCatalog(), connection.getSchema(), sortable.table());
+                sortable.columns().forEach((field, column) -> {
+                    if (!leading.contains(column.toLowerCase(Locale.ROOT))) {
+                        unindexed.add("%s.%s (%s)".formatted(sortable.table(), column, field));
+                    }
+                });
+            }
+        }
+        unindexed.sort(null);
+        return unindexed;
+    }
+
+    // identifiers are stored upper case by some databases, so both spellings are looked up
+    private static Set<String> leadingColumns(
+            final DatabaseMetaData metaData,
+            final String catalog,
+            final String schema,
+            final String table
+    ) throws SQLException {
+        final var columns = new HashSet<String>();
+        for (final var name : Set.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (final var indexes = metaData.getIndexInfo(catalog, schema, name, false, true)) {
+                while (indexes.next()) {
+                    final var column = indexes.getString("COLUMN_NAME");
+                    if (indexes.getShort("ORDINAL_POSITION") == 1 && column != null) {
+                        columns.add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        return columns;
+    }
+}
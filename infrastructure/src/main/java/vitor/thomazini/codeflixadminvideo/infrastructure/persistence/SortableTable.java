@@ -0,0 +1,15 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The table behind a list endpoint and the column each of its sort fields orders by.
+ */
+public record SortableTable(String table, Map<String, String> columns) {
+
+    public SortableTable {
+        Objects.requireNonNull(table);
+        columns = Map.copyOf(columns);
+    }
+}
@@ -0,0 +1,39 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    private static final int MAX_COLUMNS = 3;
+
+    public static String matchAgainst(final int columns) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("A full-text match covers 1 to %d columns".formatted(MAX_COLUMNS));
+        }
+        return "match_against_" + columns;
+    }
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functions) {
+        final var score = functions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        for (int columns = 1; columns <= MAX_COLUMNS; columns++) {
+            final var arguments = IntStream.rangeClosed(1, columns)
+                    .mapToObj(it -> "?" + it)
+                    .collect(Collectors.joining(", "));
+
+            functions.getFunctionRegistry().registerPattern(
+                    matchAgainst(columns),
+                    "match (%s) against (?%d in boolean mode)".formatted(arguments, columns + 1),
+                    score
+            );
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+
+public class FullTextSearchBackend implements SearchBackend {
+
+    // the default ngram_token_size, shorter terms are never tokenized by the ngram parser
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private final SearchBackend fallback = new LikeSearchBackend();
+
+    @Override
+    public <T> Specification<T> matching(final SearchableEntity<T> entity, final String terms) {
+        final var phrase = terms.replace("\"", " ").trim();
+        if (phrase.length() < MIN_TERM_LENGTH) {
+            return this.fallback.matching(entity, terms);
+        }
+
+        final var against = "+\"" + phrase + "\"";
+        final var function = FullTextFunctionContributor.matchAgainst(entity.fields().size());
+
+        return (root, query, cb) -> {
+            final var arguments = new ArrayList<Expression<?>>();
+            entity.fields().forEach(field -> arguments.add(root.get(field)));
+            arguments.add(cb.literal(against));
+
+            return cb.greaterThan(
+                    cb.function(function, Double.class, arguments.toArray(Expression[]::new)),
+                    0d
+            );
+        };
+    }
+}
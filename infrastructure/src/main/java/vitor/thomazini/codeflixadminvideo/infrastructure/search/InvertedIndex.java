@@ -0,0 +1,171 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Trigram index over upper-cased field values. A document matches when any of its values contains the whole term,
+ * the same rule as {@code UPPER(field) LIKE '%TERM%'}.
+ */
+final class InvertedIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACTION = 1024;
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<String[]> values = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    private int removed;
+    private boolean stale = true;
+
+    synchronized boolean isStale() {
+        return this.stale;
+    }
+
+    synchronized void markStale() {
+        this.stale = true;
+    }
+
+    synchronized void rebuild(final Map<String, List<String>> documents) {
+        clear();
+        documents.forEach(this::add);
+        this.stale = false;
+    }
+
+    synchronized void put(final String id, final List<String> documentValues) {
+        delete(id);
+        add(id, documentValues);
+    }
+
+    synchronized void remove(final String id) {
+        delete(id);
+        if (this.removed > MIN_COMPACTION && this.removed > this.ordinals.size()) {
+            compact();
+        }
+    }
+
+    synchronized Set<String> search(final String terms) {
+        final var term = terms.toUpperCase();
+        final var matches = new HashSet<String>();
+
+        final var candidates = term.length() < GRAM ? null : smallestPostings(term);
+        if (candidates == null) {
+            for (int ordinal = 0; ordinal < this.ids.size(); ordinal++) {
+                collect(ordinal, term, matches);
+            }
+        } else {
+            for (int i = 0; i < candidates.size; i++) {
+                collect(candidates.ordinals[i], term, matches);
+            }
+        }
+
+        return matches;
+    }
+
+    private Postings smallestPostings(final String term) {
+        Postings smallest = null;
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            final var current = this.postings.get(gram(term, i));
+            if (current == null) {
+                return Postings.EMPTY;
+            }
+            if (smallest == null || current.size < smallest.size) {
+                smallest = current;
+            }
+        }
+        return smallest;
+    }
+
+    private void collect(final int ordinal, final String term, final Set<String> matches) {
+        final var documentValues = this.values.get(ordinal);
+        if (documentValues == null) {
+            return;
+        }
+
+        for (final var value : documentValues) {
+            if (value != null && value.contains(term)) {
+                matches.add(this.ids.get(ordinal));
+                return;
+            }
+        }
+    }
+
+    private void add(final String id, final List<String> documentValues) {
+        final var ordinal = this.ids.size();
+        final var normalized = documentValues.stream()
+                .map(it -> it == null ? null : it.toUpperCase())
+                .toArray(String[]::new);
+
+        this.ids.add(id);
+        this.values.add(normalized);
+        this.ordinals.put(id, ordinal);
+
+        final var grams = new HashSet<Long>();
+        Arrays.stream(normalized)
+                .filter(Objects::nonNull)
+                .forEach(value -> {
+                    for (int i = 0; i + GRAM <= value.length(); i++) {
+                        grams.add(gram(value, i));
+                    }
+                });
+
+        grams.forEach(gram -> this.postings.computeIfAbsent(gram, it -> new Postings()).add(ordinal));
+    }
+
+    private void delete(final String id) {
+        final var ordinal = this.ordinals.remove(id);
+        if (ordinal != null) {
+            this.ids.set(ordinal, null);
+            this.values.set(ordinal, null);
+            this.removed++;
+        }
+    }
+
+    private void compact() {
+        final var live = new HashMap<String, List<String>>();
+        for (int ordinal = 0; ordinal < this.ids.size(); ordinal++) {
+            if (this.ids.get(ordinal) != null) {
+                live.put(this.ids.get(ordinal), Arrays.asList(this.values.get(ordinal)));
+            }
+        }
+        clear();
+        live.forEach(this::add);
+    }
+
+    private void clear() {
+        this.ids.clear();
+        this.values.clear();
+        this.ordinals.clear();
+        this.postings.clear();
+        this.removed = 0;
+    }
+
+    private static long gram(final String value, final int start) {
+        return ((long) value.charAt(start) << 32)
+                | ((long) value.charAt(start + 1) << 16)
+                | value.charAt(start + 2);
+    }
+
+    private static final class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        private void add(final int ordinal) {
+            if (this.size == this.ordinals.length) {
+                this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+            }
+            this.ordinals[this.size++] = ordinal;
+        }
+    }
+}
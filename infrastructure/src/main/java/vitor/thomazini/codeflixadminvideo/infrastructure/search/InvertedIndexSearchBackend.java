@@ -0,0 +1,171 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps an in-process {@link InvertedIndex} per searchable entity, fed by Hibernate write events and by the bulk
+ * updates reported through {@link #updated}. Meant for databases without a full-text index, such as the H2 used by
+ * the tests.
+ */
+public class InvertedIndexSearchBackend implements SearchBackend,
+        PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // past this many candidates an IN list costs more than the LIKE scan it replaces
+    private static final int MAX_CANDIDATES = 1000;
+
+    private final SessionFactory sessionFactory;
+    private final EntityManager entityManager;
+    private final Map<Class<?>, Registration<?>> registrations;
+    private final SearchBackend fallback;
+
+    public InvertedIndexSearchBackend(final EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = Objects.requireNonNull(entityManagerFactory).unwrap(SessionFactory.class);
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.registrations = new ConcurrentHashMap<>();
+        this.fallback = new LikeSearchBackend();
+
+        final var listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public <T> Specification<T> matching(final SearchableEntity<T> entity, final String terms) {
+        final var registration = register(entity);
+
+        // pending writes only reach the index once they are flushed
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            this.entityManager.flush();
+        }
+
+        if (registration.index().isStale()) {
+            registration.index().rebuild(load(entity));
+        }
+
+        final var candidates = registration.index().search(terms);
+        if (candidates.size() > MAX_CANDIDATES) {
+            return this.fallback.matching(entity, terms);
+        }
+
+        return (root, query, cb) -> candidates.isEmpty()
+                ? cb.disjunction()
+                : root.get(SearchableEntity.ID_FIELD).in(candidates);
+    }
+
+    @Override
+    public <T> void updated(final SearchableEntity<T> entity, final T row) {
+        put(row);
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        final var registration = this.registrations.get(event.getEntity().getClass());
+        if (registration != null) {
+            registration.index().remove(String.valueOf(event.getId()));
+            staleOnRollback(registration.index());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Registration<T> register(final SearchableEntity<T> entity) {
+        return (Registration<T>) this.registrations.computeIfAbsent(
+                entity.type(),
+                type -> new Registration<>(entity, new InvertedIndex())
+        );
+    }
+
+    private void put(final Object entity) {
+        final var registration = this.registrations.get(entity.getClass());
+        if (registration != null) {
+            registration.put(entity);
+            staleOnRollback(registration.index());
+        }
+    }
+
+    // rolled back writes were already applied, so the index is rebuilt from the table on its next search
+    private void staleOnRollback(final InvertedIndex index) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        index.markStale();
+                    }
+                }
+            });
+        }
+    }
+
+    // inside a transaction the rows it wrote are only visible through its own entity manager
+    private <T> Map<String, List<String>> load(final SearchableEntity<T> entity) {
+        final var cb = this.sessionFactory.getCriteriaBuilder();
+        final var query = cb.createQuery(entity.type());
+        query.select(query.from(entity.type()));
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try (final var rows = this.entityManager.createQuery(query).getResultStream()) {
+                return documents(entity, rows);
+            }
+        }
+
+        try (final var session = this.sessionFactory.openStatelessSession();
+             final var rows = session.createQuery(query).getResultStream()) {
+            return documents(entity, rows);
+        }
+    }
+
+    private static <T> Map<String, List<String>> documents(final SearchableEntity<T> entity, final Stream<T> rows) {
+        final var documents = new HashMap<String, List<String>>();
+        rows.forEach(row -> documents.put(entity.idOf().apply(row), entity.valuesOf().apply(row)));
+        return documents;
+    }
+
+    private record Registration<T>(SearchableEntity<T> entity, InvertedIndex index) {
+
+        private void put(final Object row) {
+            final var typed = this.entity.type().cast(row);
+            this.index.put(this.entity.idOf().apply(typed), this.entity.valuesOf().apply(typed));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import vitor.thomazini.codeflixadminvideo.infrastructure.utils.SpecificationUtils;
+
+public class LikeSearchBackend implements SearchBackend {
+
+    @Override
+    public <T> Specification<T> matching(final SearchableEntity<T> entity, final String terms) {
+        return entity.fields().stream()
+                .map(field -> SpecificationUtils.<T>like(field, terms))
+                .reduce(Specification::or)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,12 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public interface SearchBackend {
+
+    <T> Specification<T> matching(SearchableEntity<T> entity, String terms);
+
+    // bulk updates raise no entity events, so the gateways that issue them report the rows they changed
+    default <T> void updated(final SearchableEntity<T> entity, final T row) {
+    }
+}
@@ -0,0 +1,14 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record SearchableEntity<T>(
+        Class<T> type,
+        Function<T, String> idOf,
+        List<String> fields,
+        Function<T, List<String>> valuesOf
+) {
+
+    public static final String ID_FIELD = "id";
+}
@@ -0,0 +1,111 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Stores the 32 hex digits of an id as a {@code BINARY(16)} column and reads it back in lower case. A Hibernate type
+ * rather than a JPA converter, because converters are not applied to primary keys.
+ */
+public class BinaryIdType implements UserType<String> {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int HEX_LENGTH = 32;
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final String x, final String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(
+            final ResultSet rs,
+            final int position,
+            final SharedSessionContractImplementor session,
+            final Object owner
+    ) throws SQLException {
+        return toHex(rs.getBytes(position));
+    }
+
+    @Override
+    public void nullSafeSet(
+            final PreparedStatement st,
+            final String value,
+            final int index,
+            final SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(final String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(final Serializable cached, final Object owner) {
+        return (String) cached;
+    }
+
+    public static byte[] toBytes(final String id) {
+        if (isHex(id)) {
+            return HEX.parseHex(id);
+        }
+        // stored ids are always hex, so anything else keeps its raw bytes and simply matches no row
+        return id.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String toHex(final byte[] bytes) {
+        return bytes == null ? null : HEX.formatHex(bytes);
+    }
+
+    private static boolean isHex(final String id) {
+        if (id.length() != HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            if (!HexFormat.isHexDigit(id.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
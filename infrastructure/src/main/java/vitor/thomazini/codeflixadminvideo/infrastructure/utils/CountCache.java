@@ -0,0 +1,104 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public final class CountCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final AtomicLong generation;
+
+    public CountCache(final Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    CountCache(final Duration ttl, final LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    // a slice that reaches the end of the result already tells its total, so only open-ended slices are counted
+    public long totalOf(
+            final SearchQuery query,
+            final long offset,
+            final Window<?> slice,
+            final LongSupplier counter
+    ) {
+        if (!slice.hasNext() && (!slice.isEmpty() || offset == 0)) {
+            return offset + slice.size();
+        }
+
+        return query.withTotal() ? count(query.terms(), counter) : Pagination.UNKNOWN_TOTAL;
+    }
+
+    public long count(final String terms, final LongSupplier counter) {
+        if (this.ttlNanos <= 0) {
+            return counter.getAsLong();
+        }
+
+        final var key = normalize(terms);
+        final var now = this.clock.getAsLong();
+        final var cached = this.entries.get(key);
+        if (cached != null && now - cached.createdAt() < this.ttlNanos) {
+            return cached.count();
+        }
+
+        final var generation = this.generation.get();
+        final var count = counter.getAsLong();
+
+        if (this.entries.size() >= MAX_ENTRIES) {
+            this.entries.clear();
+        }
+
+        // a write that raced with the count bumps the generation, so its stale value is not kept
+        if (generation == this.generation.get()) {
+            this.entries.put(key, new Entry(count, now));
+        }
+
+        return count;
+    }
+
+    // inside a transaction the entries are dropped once it commits; dropping them earlier would let a count that still
+    // sees the old rows be cached again under the new generation
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear();
+            }
+        });
+    }
+
+    private void clear() {
+        this.generation.incrementAndGet();
+        this.entries.clear();
+    }
+
+    // mirrors SpecificationUtils.like, which ignores blank terms and matches case-insensitively
+    private static String normalize(final String terms) {
+        return terms == null || terms.isBlank() ? "" : terms.toUpperCase();
+    }
+
+    private record Entry(long count, long createdAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
+
+public final class CursorUtils {
+
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private CursorUtils() {}
+
+    public static String encode(final KeysetScrollPosition position) {
+        final var raw = position.getKeys().entrySet().stream()
+                .map(entry -> String.join(
+                        FIELD_SEPARATOR,
+                        entry.getKey(),
+                        typeOf(entry.getValue()),
+                        toBase64(String.valueOf(entry.getValue()))
+                ))
+                .collect(Collectors.joining(ENTRY_SEPARATOR));
+
+        return toBase64(raw);
+    }
+
+    public static KeysetScrollPosition decode(final String cursor, final String... requiredKeys) {
+        try {
+            final var keys = new LinkedHashMap<String, Object>();
+            for (final var entry : fromBase64(cursor).split(ENTRY_SEPARATOR)) {
+                final var fields = entry.split(FIELD_SEPARATOR, 3);
+                keys.put(fields[0], valueOf(fields[1], fromBase64(fields[2])));
+            }
+
+            for (final var key : requiredKeys) {
+                if (!keys.containsKey(key)) {
+                    throw invalidCursor();
+                }
+            }
+
+            return ScrollPosition.forward(keys);
+        } catch (final DomainException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String typeOf(final Object value) {
+        return switch (value) {
+            case String ignored -> "s";
+            case Instant ignored -> "i";
+            case Boolean ignored -> "b";
+            default -> throw new IllegalArgumentException(
+                    "Unsupported cursor key type: %s".formatted(value.getClass().getName())
+            );
+        };
+    }
+
+    private static Object valueOf(final String type, final String value) {
+        return switch (type) {
+            case "s" -> value;
+            case "i" -> Instant.parse(value);
+            case "b" -> Boolean.parseBoolean(value);
+            default -> throw new IllegalArgumentException("Unknown cursor key type: %s".formatted(type));
+        };
+    }
+
+    private static String toBase64(final String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fromBase64(final String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+}
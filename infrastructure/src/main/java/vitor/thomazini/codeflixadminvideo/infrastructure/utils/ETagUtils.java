@@ -0,0 +1,22 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    /**
+     * Strong ETag of a single aggregate: its update time in micros, the precision the database keeps, plus the hash of
+     * anything that can change without touching it, such as a genre's categories removed by a cascade.
+     */
+    public static String of(final Instant updatedAt, final Object... unversioned) {
+        final var micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+        if (unversioned.length == 0) {
+            return "\"%x\"".formatted(micros);
+        }
+        return "\"%x-%x\"".formatted(micros, Arrays.deepHashCode(unversioned));
+    }
+}
@@ -0,0 +1,14 @@
+-- same schema as db/mysql/V5; the in-memory database starts empty, so there are no ids to convert
+ALTER TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+ALTER TABLE genres_categories DROP CONSTRAINT fk_category_id;
+
+ALTER TABLE categories ALTER COLUMN id SET DATA TYPE BINARY(16);
+ALTER TABLE genres ALTER COLUMN id SET DATA TYPE BINARY(16);
+ALTER TABLE cast_members ALTER COLUMN id SET DATA TYPE BINARY(16);
+ALTER TABLE genres_categories ALTER COLUMN genre_id SET DATA TYPE BINARY(16);
+ALTER TABLE genres_categories ALTER COLUMN category_id SET DATA TYPE BINARY(16);
+
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
@@ -0,0 +1,14 @@
+-- same indexes as db/mysql/V8, except that H2 has no prefix indexes and takes the whole description
+CREATE INDEX idx_categories_name ON categories (name);
+CREATE INDEX idx_categories_created_at ON categories (created_at);
+CREATE INDEX idx_categories_description ON categories (description);
+CREATE INDEX idx_categories_deleted_at ON categories (deleted_at);
+
+CREATE INDEX idx_genres_name ON genres (name);
+CREATE INDEX idx_genres_created_at ON genres (created_at);
+CREATE INDEX idx_genres_deleted_at ON genres (deleted_at);
+
+CREATE INDEX idx_cast_members_name ON cast_members (name);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at);
+CREATE INDEX idx_cast_members_type ON cast_members (type);
+
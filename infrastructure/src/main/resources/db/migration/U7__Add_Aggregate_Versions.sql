@@ -0,0 +1,3 @@
+ALTER TABLE categories DROP COLUMN version;
+ALTER TABLE genres DROP COLUMN version;
+ALTER TABLE cast_members DROP COLUMN version;
\ No newline at end of file
@@ -0,0 +1,8 @@
+CREATE TABLE outbox_events (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id BINARY(16) NOT NULL,
+    event_type VARCHAR(16) NOT NULL,
+    payload TEXT,
+    occurred_at DATETIME(6) NOT NULL
+);
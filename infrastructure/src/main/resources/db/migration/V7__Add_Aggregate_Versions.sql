@@ -0,0 +1,4 @@
+-- optimistic locking: updates are conditional on the version they read and bump it by one
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE cast_members ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
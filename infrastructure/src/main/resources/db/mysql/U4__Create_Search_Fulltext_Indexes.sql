@@ -0,0 +1,3 @@
+ALTER TABLE categories DROP INDEX idx_categories_search;
+ALTER TABLE genres DROP INDEX idx_genres_search;
+ALTER TABLE cast_members DROP INDEX idx_cast_members_search;
\ No newline at end of file
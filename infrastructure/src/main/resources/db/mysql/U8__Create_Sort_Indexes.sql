@@ -0,0 +1,3 @@
+ALTER TABLE categories DROP INDEX idx_categories_name, DROP INDEX idx_categories_created_at, DROP INDEX idx_categories_description, DROP INDEX idx_categories_deleted_at;
+ALTER TABLE genres DROP INDEX idx_genres_name, DROP INDEX idx_genres_created_at, DROP INDEX idx_genres_deleted_at;
+ALTER TABLE cast_members DROP INDEX idx_cast_members_name, DROP INDEX idx_cast_members_created_at, DROP INDEX idx_cast_members_type;
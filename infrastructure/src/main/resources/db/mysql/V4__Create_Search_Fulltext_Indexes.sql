@@ -0,0 +1,4 @@
+-- the ngram parser indexes every 2-character sequence, so infix terms keep matching like the old '%term%' filter
+ALTER TABLE categories ADD FULLTEXT INDEX idx_categories_search (name, description) WITH PARSER ngram;
+ALTER TABLE genres ADD FULLTEXT INDEX idx_genres_search (name) WITH PARSER ngram;
+ALTER TABLE cast_members ADD FULLTEXT INDEX idx_cast_members_search (name) WITH PARSER ngram;
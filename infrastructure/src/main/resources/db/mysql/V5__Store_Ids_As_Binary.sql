@@ -0,0 +1,22 @@
+-- ids are stored as the 16 bytes behind their hex form, which is what the API keeps exposing
+ALTER TABLE genres_categories DROP FOREIGN KEY fk_genre_id, DROP FOREIGN KEY fk_category_id;
+
+ALTER TABLE categories MODIFY id VARBINARY(32) NOT NULL;
+UPDATE categories SET id = UNHEX(id);
+ALTER TABLE categories MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE genres MODIFY id VARBINARY(32) NOT NULL;
+UPDATE genres SET id = UNHEX(id);
+ALTER TABLE genres MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE cast_members MODIFY id VARBINARY(32) NOT NULL;
+UPDATE cast_members SET id = UNHEX(id);
+ALTER TABLE cast_members MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE genres_categories MODIFY genre_id VARBINARY(32) NOT NULL, MODIFY category_id VARBINARY(32) NOT NULL;
+UPDATE genres_categories SET genre_id = UNHEX(genre_id), category_id = UNHEX(category_id);
+ALTER TABLE genres_categories MODIFY genre_id BINARY(16) NOT NULL, MODIFY category_id BINARY(16) NOT NULL;
+
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
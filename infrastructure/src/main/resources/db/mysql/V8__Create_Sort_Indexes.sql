@@ -0,0 +1,17 @@
+-- the list endpoints sort by these columns; InnoDB appends the primary key, which also covers the keyset tie-breaker.
+-- A full index on VARCHAR(4000) exceeds the InnoDB key size, so descriptions are indexed by their first 255 characters;
+-- MySQL cannot read a sorted page straight off a prefix index, so description sorts still sort the matched rows
+CREATE INDEX idx_categories_name ON categories (name);
+CREATE INDEX idx_categories_created_at ON categories (created_at);
+CREATE INDEX idx_categories_description ON categories (description(255));
+CREATE INDEX idx_categories_deleted_at ON categories (deleted_at);
+
+CREATE INDEX idx_genres_name ON genres (name);
+CREATE INDEX idx_genres_created_at ON genres (created_at);
+CREATE INDEX idx_genres_deleted_at ON genres (deleted_at);
+
+CREATE INDEX idx_cast_members_name ON cast_members (name);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at);
+CREATE INDEX idx_cast_members_type ON cast_members (type);
+
+-- genres_categories.category_id needs none: fk_category_id already created one for the cascade
@@ -7,6 +7,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence.OutboxEventRepository;
 
 import java.util.Collection;
 import java.util.List;
@@ -18,7 +19,8 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         this.cleanUp(List.of(
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
-                appContext.getBean(CategoryRepository.class)
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(OutboxEventRepository.class)
         ));
     }
 
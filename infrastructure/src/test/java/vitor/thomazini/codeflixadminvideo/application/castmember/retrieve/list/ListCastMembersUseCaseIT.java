@@ -8,7 +8,6 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import vitor.thomazini.codeflixadminvideo.IntegrationTest;
 import vitor.thomazini.codeflixadminvideo.domain.Fixture;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
-import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberGateway;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
@@ -29,7 +28,7 @@ class ListCastMembersUseCaseIT {
     private CastMemberRepository castMemberRepository;
 
     @SpyBean
-    private CastMemberGateway castMemberGateway;
+    private CastMemberListGateway castMemberListGateway;
 
     @Test
     void givenAValidQuery_whenCallsListCastMembers_shouldReturnAll() {
@@ -78,7 +77,7 @@ class ListCastMembersUseCaseIT {
                         && expectedItems.containsAll(actualOutput.items())
         );
 
-        verify(castMemberGateway).findAll(any());
+        verify(castMemberListGateway).list(any());
     }
 
     @Test
@@ -112,7 +111,7 @@ class ListCastMembersUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway).findAll(any());
+        verify(castMemberListGateway).list(any());
     }
 
     @Test
@@ -127,7 +126,7 @@ class ListCastMembersUseCaseIT {
         final var expectedErrorMessage = "Gateway error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(castMemberGateway).findAll(any());
+                .when(castMemberListGateway).list(any());
 
         final var aQuery = new SearchQuery(
                 expectedPage,
@@ -145,6 +144,6 @@ class ListCastMembersUseCaseIT {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway).findAll(any());
+        verify(castMemberListGateway).list(any());
     }
 }
\ No newline at end of file
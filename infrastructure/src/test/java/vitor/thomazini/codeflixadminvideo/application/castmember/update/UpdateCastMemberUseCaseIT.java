@@ -64,7 +64,7 @@ class UpdateCastMemberUseCaseIT {
         Assertions.assertTrue(aMember.updatedAt().isBefore(actualPersistedMember.getUpdatedAt()));
 
         verify(castMemberGateway).findById(any());
-        verify(castMemberGateway).update(any());
+        verify(castMemberGateway).update(any(), any());
     }
 
     @Test
@@ -98,7 +98,7 @@ class UpdateCastMemberUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.errors().getFirst().message());
 
         verify(castMemberGateway).findById(any());
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -132,7 +132,7 @@ class UpdateCastMemberUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.errors().getFirst().message());
 
         verify(castMemberGateway).findById(any());
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -160,6 +160,6 @@ class UpdateCastMemberUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
         verify(castMemberGateway).findById(any());
-        verify(castMemberGateway, times(0)).update(any());
+        verify(castMemberGateway, times(0)).update(any(), any());
     }
 }
\ No newline at end of file
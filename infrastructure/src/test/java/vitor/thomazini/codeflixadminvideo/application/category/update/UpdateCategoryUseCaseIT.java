@@ -94,7 +94,7 @@ class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        verify(this.categoryGateway, times(0)).update(any());
+        verify(this.categoryGateway, times(0)).update(any(), any());
     }
 
     @Test
@@ -161,7 +161,7 @@ class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(1, categoryRepository.count());
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(categoryGateway).update(any());
+                .when(categoryGateway).update(any(), any());
 
         // Act
         final var notification = this.useCase.execute(command).getLeft();
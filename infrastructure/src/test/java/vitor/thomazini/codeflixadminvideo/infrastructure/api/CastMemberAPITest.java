@@ -9,12 +9,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import vitor.thomazini.codeflixadminvideo.ControllerTest;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.CreateCastMemberOutput;
 import vitor.thomazini.codeflixadminvideo.application.castmember.create.DefaultCreateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.create.DefaultCreateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.CastMemberOutput;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.CastMemberListOutput;
 import vitor.thomazini.codeflixadminvideo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.DefaultUpdateCastMemberUseCase;
+import vitor.thomazini.codeflixadminvideo.application.castmember.update.DefaultUpdateCastMembersBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.castmember.update.UpdateCastMemberOutput;
 import vitor.thomazini.codeflixadminvideo.domain.Fixture;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
@@ -26,6 +28,7 @@ import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.CreateCastMemberRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.models.UpdateCastMemberRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 
 import java.util.List;
 import java.util.Objects;
@@ -62,6 +65,15 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultCreateCastMembersBatchUseCase createCastMembersBatchUseCase;
+
+    @MockBean
+    private DefaultUpdateCastMembersBatchUseCase updateCastMembersBatchUseCase;
+
+    @MockBean
+    private ListVersions listVersions;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // Arrange
@@ -0,0 +1,68 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import vitor.thomazini.codeflixadminvideo.ControllerTest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.CatalogExporter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.CatalogImporter;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.SqlMetricsConfig;
+import vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlRequestMetrics;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = CatalogAPI.class)
+// the test-integration profile turns sql.metrics.response-headers on
+@Import(SqlMetricsConfig.class)
+public class CatalogAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CatalogExporter catalogExporter;
+
+    @MockBean
+    private CatalogImporter catalogImporter;
+
+    @MockBean
+    private SqlRequestMetrics sqlRequestMetrics;
+
+    @Test
+    public void givenSqlMetricsHeadersEnabled_whenCallsExport_thenShouldStreamTheWholeCatalog() throws Exception {
+        // Arrange
+        final var expectedBody = """
+                {"type":"category","id":"123","name":"Filmes"}
+                {"type":"genre","id":"456","name":"Ação"}
+                """;
+
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(expectedBody.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.catalogExporter).export(any());
+
+        // Act
+        final var started = this.mvc.perform(get("/catalog/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(started))
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().bytes(expectedBody.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import vitor.thomazini.codeflixadminvideo.ControllerTest;
+import vitor.thomazini.codeflixadminvideo.application.BatchItemOutput;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryOutput;
 import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.delete.DeleteCategoryUseCase;
@@ -14,20 +16,25 @@ import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.Cate
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListOutput;
 import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoriesBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryOutput;
 import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryUseCase;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.validation.Error;
 import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.CreateCategoryRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.models.UpdateCategoryRequest;
+import vitor.thomazini.codeflixadminvideo.infrastructure.datasource.AdmissionRejectedException;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
@@ -62,6 +69,15 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private CreateCategoriesBatchUseCase createCategoriesBatchUseCase;
+
+    @MockBean
+    private UpdateCategoriesBatchUseCase updateCategoriesBatchUseCase;
+
+    @MockBean
+    private ListVersions listVersions;
+
     @Test
     public void givenAValidCommand_whenCallCreateCategory_thenShouldReturnCategoryId() throws Exception {
         // Arrange
@@ -95,6 +111,45 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAPartiallyValidBatch_whenCallCreateCategories_thenShouldReturnMultiStatusWithEachItem() throws Exception {
+        // Arrange
+        final var expectedMessage = "'name' should not be null";
+
+        final var input = List.of(
+                new CreateCategoryRequest("Filmes", null, null),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(this.createCategoriesBatchUseCase.execute(any()))
+                .thenReturn(List.of(
+                        BatchItemOutput.success(0, "123"),
+                        BatchItemOutput.failure(1, Notification.create(new Error(expectedMessage)))
+                ));
+
+        // Act
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$[1].index", equalTo(1)))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedMessage)));
+
+        verify(this.createCategoriesBatchUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && cmds.get(0).isActive()
+        ));
+    }
+
     @Test
     public void givenAnInvalidName_whenCallCreateCategory_thenShouldReturnNotificationException() throws Exception {
         // Arrange
@@ -201,6 +256,42 @@ public class CategoryAPITest {
                 .execute(eq(expectedId));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallGetCategory_thenShouldReturnNotModified() throws Exception {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.id().value();
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var etag = this.mvc.perform(get("/categories/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Act
+        final var request = get("/categories/{id}", expectedId)
+                .header("If-None-Match", etag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(Category.from(category).update("Filmes", "Atualizada", true)));
+
+        this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description", equalTo("Atualizada")));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallGetCategory_thenShouldReturnNotFound() throws Exception {
         // Arrange
@@ -223,6 +314,28 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenASaturatedDatabase_whenCallGetCategory_thenShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        final var expectedErrorMessage = "Database is saturated, 200 requests are already waiting";
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenThrow(AdmissionRejectedException.queueFull(200));
+
+        // Act
+        final var request = get("/categories/{id}", "123")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAValidCommand_whenCallUpdateCategory_thenShouldReturnCategoryId() throws Exception {
         // Arrange
@@ -292,6 +405,36 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleVersion_whenCallUpdateCategory_thenShouldReturnConflict() throws Exception {
+        // Arrange
+        final var expectedId = "123";
+        final var expectedVersion = 1L;
+        final var expectedErrorMessage = "Category with ID 123 was changed since version 1";
+
+        final var input = new UpdateCategoryRequest("Filmes", null, true, expectedVersion);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryId.from(expectedId), expectedVersion));
+
+        // Act
+        final var request = put("/categories/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(this.updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedVersion, cmd.version())
+        ));
+    }
+
     @Test
     public void givenAnInvalidName_whenCallUpdateCategory_thenShouldReturnDomainException() throws Exception {
         // Arrange
@@ -402,4 +545,54 @@ public class CategoryAPITest {
                         Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenWithTotalFalse_whenCallsListCategories_thenShouldSkipTheCount() throws Exception {
+        // Arrange
+        final var expectedCategory = Category.newCategory("Movies", null, true);
+        final var expectedItems = List.of(CategoryListOutput.from(expectedCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, expectedItems));
+
+        // Act
+        final var request = get("/categories")
+                .queryParam("perPage", "1")
+                .queryParam("with_total", "false")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> !query.withTotal()));
+    }
+
+    @Test
+    public void givenTheCurrentListETag_whenCallsListCategories_thenShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        // Arrange
+        final var expectedETag = "\"abc-1-2\"";
+
+        when(listVersions.etag("category"))
+                .thenReturn(Optional.of(expectedETag));
+
+        // Act
+        final var request = get("/categories")
+                .header("If-None-Match", expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // Assert
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import vitor.thomazini.codeflixadminvideo.ControllerTest;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenreOutput;
 import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.create.CreateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.delete.DeleteGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GenreOutput;
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.get.GetGenreByIdUseCase;
@@ -16,6 +17,7 @@ import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreL
 import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.ListGenreUseCase;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreOutput;
 import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.update.UpdateGenresBatchUseCase;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
@@ -23,6 +25,7 @@ import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.validation.handler.Notification;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ListVersions;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.CreateGenreRequest;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.UpdateGenreRequest;
 
@@ -61,6 +64,15 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private CreateGenresBatchUseCase createGenresBatchUseCase;
+
+    @MockBean
+    private UpdateGenresBatchUseCase updateGenresBatchUseCase;
+
+    @MockBean
+    private ListVersions listVersions;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // Arrange
@@ -171,6 +183,53 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        // Arrange
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryId.from("123")));
+
+        final var expectedId = aGenre.id().value();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        final var etag = this.mvc.perform(get("/genres/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Act
+        final var aRequest = get("/genres/{id}", expectedId)
+                .header("If-None-Match", etag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // Assert
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        // a category removed by a cascade does not touch updatedAt, but must still change the tag
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(new GenreOutput(
+                        expectedId,
+                        aGenre.name(),
+                        aGenre.isActive(),
+                        List.of(),
+                        aGenre.createdAt(),
+                        aGenre.updatedAt(),
+                        aGenre.deletedAt(),
+                        aGenre.version()
+                ));
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories_id", hasSize(0)));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetGenreById_shouldReturnNotFound() throws Exception {
         // Arrange
@@ -338,4 +397,44 @@ public class GenreAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidCursor_whenCallsListGenres_shouldReturnNextCursor() throws Exception {
+        // Arrange
+        final var aGenre = Genre.newGenre("Ação", true);
+
+        final var expectedPerPage = 10;
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+        final var expectedCursor = "bmFtZTpzOlFXUERvOzpzOk1USXo";
+        final var expectedNextCursor = "aWQ6czpNVEl6";
+
+        final var expectedItems = List.of(GenreListOutput.from(aGenre));
+
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNextCursor));
+
+        // Act
+        final var aRequest = get("/genres")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("after", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aGenre.id().value())));
+
+        verify(listGenreUseCase).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.after())
+                        && query.isKeyset()
+                        && Objects.equals(expectedSort, query.sort())
+        ));
+    }
+}
@@ -0,0 +1,95 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+class ListVersionsTest {
+
+    private final ListVersions versions = new ListVersions(Duration.ofDays(365));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenAChangeOutsideATransaction_whenCallsETag_thenShouldReturnANewTag() {
+        // Arrange
+        final var before = versions.etag("category");
+
+        // Act
+        versions.changed("category");
+
+        // Assert
+        Assertions.assertNotEquals(before, versions.etag("category"));
+    }
+
+    @Test
+    void givenAChangeToAnotherType_whenCallsETag_thenShouldKeepTheTag() {
+        // Arrange
+        final var before = versions.etag("category");
+
+        // Act
+        versions.changed("genre");
+
+        // Assert
+        Assertions.assertEquals(before, versions.etag("category"));
+    }
+
+    @Test
+    void givenAChangeInATransaction_whenItCommits_thenShouldChangeTheTagOnlyAfterTheCommit() {
+        // Arrange
+        final var before = versions.etag("category");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        versions.changed("category");
+        versions.changed("category");
+        final var during = versions.etag("category");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        Assertions.assertEquals(before, during);
+        Assertions.assertNotEquals(before, versions.etag("category"));
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(versions));
+    }
+
+    @Test
+    void givenAChangeInATransaction_whenItRollsBack_thenShouldKeepTheTag() {
+        // Arrange
+        final var before = versions.etag("category");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        versions.changed("category");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        Assertions.assertEquals(before, versions.etag("category"));
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(versions));
+    }
+
+    @Test
+    void givenAZeroTtl_whenCallsETag_thenShouldReturnEmpty() {
+        // Act
+        final var actual = new ListVersions(Duration.ZERO).etag("category");
+
+        // Assert
+        Assertions.assertEquals(Optional.empty(), actual);
+    }
+
+    private static void complete(final int status) {
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+}
@@ -0,0 +1,138 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ReadThroughCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ReadThroughCache<String, String> cache =
+            new ReadThroughCache<>("test", 2, Duration.ofSeconds(60), clock::get);
+
+    @Test
+    void givenACachedKey_whenCallsGet_thenShouldLoadOnce() {
+        // Act
+        final var first = cache.get("a", this::load);
+        final var second = cache.get("a", this::load);
+
+        // Assert
+        Assertions.assertEquals(Optional.of("A"), first);
+        Assertions.assertEquals(Optional.of("A"), second);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(new CacheStats("test", 1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void givenAMissingValue_whenCallsGet_thenShouldNotCacheIt() {
+        // Act
+        cache.get("a", this::loadNothing);
+        cache.get("a", this::loadNothing);
+
+        // Assert
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(new CacheStats("test", 0, 2, 0, 0), cache.stats());
+    }
+
+    @Test
+    void givenAnExpiredEntry_whenCallsGet_thenShouldEvictAndLoadAgain() {
+        // Arrange
+        cache.get("a", this::load);
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        // Act
+        cache.get("a", this::load);
+
+        // Assert
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(new CacheStats("test", 0, 2, 1, 1), cache.stats());
+    }
+
+    @Test
+    void givenAFullCache_whenCallsGet_thenShouldEvictTheLeastRecentlyUsed() {
+        // Arrange
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+
+        // Act
+        cache.get("c", this::load);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        // Assert
+        Assertions.assertEquals(4, loads.get());
+        Assertions.assertEquals(2, cache.stats().evictions());
+        Assertions.assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    void givenAnInvalidatedKey_whenCallsGet_thenShouldLoadAgain() {
+        // Arrange
+        cache.get("a", this::load);
+        cache.invalidate("a");
+
+        // Act
+        cache.get("a", this::load);
+
+        // Assert
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenAnInvalidationDuringALoad_whenCallsGet_thenShouldNotCacheTheLoadedValue() {
+        // Act
+        cache.get("a", key -> {
+            cache.invalidate(key);
+            return load(key);
+        });
+        cache.get("a", this::load);
+
+        // Assert
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenAnInvalidatedCache_whenCallsGet_thenShouldLoadEveryKeyAgain() {
+        // Arrange
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.invalidateAll();
+
+        // Act
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        // Assert
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    @Test
+    void givenAZeroTtl_whenCallsGet_thenShouldAlwaysLoad() {
+        // Arrange
+        final var disabled = new ReadThroughCache<String, String>("disabled", 2, Duration.ZERO, clock::get);
+
+        // Act
+        disabled.get("a", this::load);
+        disabled.get("a", this::load);
+
+        // Assert
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(new CacheStats("disabled", 0, 2, 0, 0), disabled.stats());
+    }
+
+    private Optional<String> load(final String key) {
+        loads.incrementAndGet();
+        return Optional.of(key.toUpperCase());
+    }
+
+    private Optional<String> loadNothing(final String key) {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+}
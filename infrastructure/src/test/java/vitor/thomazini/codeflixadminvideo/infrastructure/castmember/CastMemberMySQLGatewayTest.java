@@ -9,6 +9,7 @@ import vitor.thomazini.codeflixadminvideo.MySQLGatewayTest;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberId;
 import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
@@ -97,6 +98,19 @@ class CastMemberMySQLGatewayTest {
         Assertions.assertTrue(aMember.updatedAt().isBefore(persistedMember.getUpdatedAt()));
     }
 
+    @Test
+    void givenTheAggregateVersionAndAMissingCastMember_whenCallsUpdate_shouldThrowNotFound() {
+        // Arrange
+        final var aMember = CastMember.newCastMember(name(), type());
+
+        // Act
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> castMemberGateway.update(aMember));
+
+        // Assert
+        Assertions.assertEquals("CastMember with ID %s was not found".formatted(aMember.id().value()), actualException.getMessage());
+        Assertions.assertEquals(0, castMemberRepository.count());
+    }
+
     @Test
     void givenTwoCastMembersAndOnePersisted_whenCallsExistsByIds_shouldReturnPersistedID() {
         // Arrange
@@ -284,6 +298,22 @@ class CastMemberMySQLGatewayTest {
         Assertions.assertEquals(expectedName, actualPage.items().get(0).name());
     }
 
+    @Test
+    void givenPrePersistedMembers_whenCallsFindAllSortedByTypeDesc_thenShouldListTheDirectorsFirst() {
+        // Arrange
+        mockMembers();
+
+        // Act
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 10, "", "type", "desc"));
+
+        // Assert
+        Assertions.assertEquals(5, actualPage.total());
+        Assertions.assertEquals(
+                List.of(CastMemberType.DIRECTOR, CastMemberType.DIRECTOR, CastMemberType.ACTOR, CastMemberType.ACTOR, CastMemberType.ACTOR),
+                actualPage.items().stream().map(CastMember::type).toList()
+        );
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0,2,2,5,Jason Momoa;Kit Harington",
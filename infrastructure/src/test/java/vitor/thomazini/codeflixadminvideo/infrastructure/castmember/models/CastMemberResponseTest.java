@@ -22,13 +22,15 @@ class CastMemberResponseTest {
         final var expectedType = Fixture.CastMembers.type().name();
         final var expectedCreatedAt = Instant.now().toString();
         final var expectedUpdatedAt = Instant.now().toString();
+        final var expectedVersion = 3L;
 
         final var response = new CastMemberResponse(
                 expectedId,
                 expectedName,
                 expectedType,
                 expectedCreatedAt,
-                expectedUpdatedAt
+                expectedUpdatedAt,
+                expectedVersion
         );
 
         final var actualJson = this.json.write(response);
@@ -38,6 +40,7 @@ class CastMemberResponseTest {
                 .hasJsonPathValue("$.name", expectedName)
                 .hasJsonPathValue("$.type", expectedType)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt)
-                .hasJsonPathValue("$.updated_at", expectedUpdatedAt);
+                .hasJsonPathValue("$.updated_at", expectedUpdatedAt)
+                .hasJsonPathValue("$.version", expectedVersion);
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@IntegrationTest
+class CatalogExporterTest {
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Test
+    void givenAPrePersistedCatalog_whenCallsExport_thenShouldWriteOneLinePerAggregate() throws Exception {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(movies.id(), series.id()));
+        final var drama = Genre.newGenre("Drama", true);
+        final var horror = Genre.newGenre("Terror", false).addCategories(List.of(movies.id()));
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(action),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(horror)
+        ));
+
+        final var actor = CastMember.newCastMember("Vin Diesel", CastMemberType.ACTOR);
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(actor));
+
+        final var out = new ByteArrayOutputStream();
+
+        // Act
+        catalogExporter.export(out);
+
+        // Assert
+        final var body = out.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(body.endsWith("\n"));
+
+        final var lines = body.lines()
+                .map(it -> Json.readValue(it, JsonNode.class))
+                .toList();
+
+        Assertions.assertEquals(6, lines.size());
+        Assertions.assertEquals(
+                List.of("category", "category", "genre", "genre", "genre", "cast_member"),
+                lines.stream().map(it -> it.get("type").asText()).toList()
+        );
+
+        final var genres = lines.stream()
+                .filter(it -> "genre".equals(it.get("type").asText()))
+                .map(it -> it.get("data"))
+                .toList();
+
+        Assertions.assertEquals(Set.of(movies.id().value(), series.id().value()), categoriesOf(genres, action));
+        Assertions.assertEquals(Set.of(), categoriesOf(genres, drama));
+        Assertions.assertEquals(Set.of(movies.id().value()), categoriesOf(genres, horror));
+
+        final var castMember = lines.get(5).get("data");
+        Assertions.assertEquals(actor.id().value(), castMember.get("id").asText());
+        Assertions.assertEquals("ACTOR", castMember.get("type").asText());
+    }
+
+    @Test
+    void givenAnEmptyCatalog_whenCallsExport_thenShouldWriteNothing() throws Exception {
+        // Arrange
+        final var out = new ByteArrayOutputStream();
+
+        // Act
+        catalogExporter.export(out);
+
+        // Assert
+        Assertions.assertEquals(0, out.size());
+    }
+
+    private static Set<String> categoriesOf(final List<JsonNode> genres, final Genre genre) {
+        final var data = genres.stream()
+                .filter(it -> genre.id().value().equals(it.get("id").asText()))
+                .findFirst()
+                .orElseThrow();
+
+        return StreamSupport.stream(data.get("categories_id").spliterator(), false)
+                .map(JsonNode::asText)
+                .collect(Collectors.toSet());
+    }
+}
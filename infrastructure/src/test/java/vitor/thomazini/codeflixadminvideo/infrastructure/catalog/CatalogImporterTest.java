@@ -0,0 +1,205 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.catalog;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.persistence.CastMemberRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.catalog.models.CatalogImportReport;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+@IntegrationTest
+class CatalogImporterTest {
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Test
+    void givenAnExportedCatalog_whenCallsImportOnAnEmptyDatabase_thenShouldRestoreIt() throws Exception {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(movies.id(), series.id()));
+        final var drama = Genre.newGenre("Drama", false);
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(action), GenreJpaEntity.from(drama)));
+
+        final var actor = CastMember.newCastMember("Vin Diesel", CastMemberType.ACTOR);
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(actor));
+
+        final var expectedCreatedAt = categoryRepository.findById(series.id().value()).get().toAggregate().createdAt();
+
+        final var out = new ByteArrayOutputStream();
+        catalogExporter.export(out);
+
+        genreRepository.deleteAll();
+        categoryRepository.deleteAll();
+        castMemberRepository.deleteAll();
+
+        // Act
+        final var actualReport = catalogImporter.importFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        // Assert
+        Assertions.assertEquals(5, actualReport.lines());
+        Assertions.assertEquals(5, actualReport.created());
+        Assertions.assertEquals(0, actualReport.failed());
+        Assertions.assertEquals(new CatalogImportReport.Totals(2, 0), actualReport.totals().get("category"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(2, 0), actualReport.totals().get("genre"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(1, 0), actualReport.totals().get("cast_member"));
+        Assertions.assertTrue(actualReport.failures().isEmpty());
+
+        final var actualSeries = categoryRepository.findById(series.id().value()).get().toAggregate();
+        Assertions.assertFalse(actualSeries.isActive());
+        Assertions.assertEquals(expectedCreatedAt, actualSeries.createdAt());
+        Assertions.assertNotNull(actualSeries.deletedAt());
+
+        final var actualAction = genreRepository.findById(action.id().value()).get().toAggregate();
+        Assertions.assertEquals(Set.of(movies.id(), series.id()), Set.copyOf(actualAction.categories()));
+
+        final var actualActor = castMemberRepository.findById(actor.id().value()).get();
+        Assertions.assertEquals(CastMemberType.ACTOR, actualActor.getType());
+    }
+
+    @Test
+    void givenInvalidLines_whenCallsImport_thenShouldReportThemAndImportTheRest() throws Exception {
+        // Arrange
+        final var existing = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(existing));
+
+        final var seriesId = IdUtils.uuid();
+
+        final var body = String.join("\n",
+                "{\"type\":\"category\",\"data\":{\"id\":\"%s\",\"name\":\"Séries\"}}".formatted(seriesId),
+                "{\"type\":\"category\",\"data\":{\"name\":\" \"}}",
+                "",
+                "{\"type\":\"category\",\"data\":{\"id\":\"%s\",\"name\":\"Filmes\"}}".formatted(existing.id().value()),
+                "{\"type\":\"genre\",\"data\":{\"name\":\"Ação\",\"categories_id\":[\"%s\",\"%s\"]}}".formatted(seriesId, existing.id().value()),
+                "{\"data\":{\"name\":\"Drama\",\"categories_id\":[\"missing\"]},\"type\":\"genre\"}",
+                "{\"type\":\"cast_member\",\"data\":{\"name\":\"Vin Diesel\",\"type\":\"ACTOR\"}}",
+                "{\"type\":\"video\",\"data\":{}}",
+                "{\"type\":\"category\",\"data\":"
+        );
+
+        // Act
+        final var actualReport = catalogImporter.importFrom(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        Assertions.assertEquals(8, actualReport.lines());
+        Assertions.assertEquals(3, actualReport.created());
+        Assertions.assertEquals(5, actualReport.failed());
+        Assertions.assertEquals(new CatalogImportReport.Totals(1, 3), actualReport.totals().get("category"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(1, 1), actualReport.totals().get("genre"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(1, 0), actualReport.totals().get("cast_member"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(0, 1), actualReport.totals().get("unknown"));
+
+        Assertions.assertEquals(
+                List.of(2L, 4L, 6L, 8L, 9L),
+                actualReport.failures().stream().map(CatalogImportReport.Failure::line).sorted().toList()
+        );
+
+        final var actualMissing = actualReport.failures().stream()
+                .filter(it -> it.line() == 6)
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(List.of("Some categories could not be found: missing"), actualMissing.errors());
+
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals(1, genreRepository.count());
+        Assertions.assertEquals(1, castMemberRepository.count());
+    }
+
+    @Test
+    void givenIdsThatAreNot32HexDigits_whenCallsImport_thenShouldReportTheirLines() throws Exception {
+        // Arrange
+        final var moviesId = IdUtils.uuid();
+
+        final var body = String.join("\n",
+                "{\"type\":\"category\",\"data\":{\"id\":\"%s\",\"name\":\"Filmes\"}}".formatted(moviesId),
+                "{\"type\":\"category\",\"data\":{\"id\":\"not-hex-not-hex-not-hex-not-hex!\",\"name\":\"Séries\"}}",
+                "{\"type\":\"category\",\"data\":{\"id\":\"0190f3a2-7c1e-7000-8000-000000000001\",\"name\":\"Documentários\"}}",
+                "{\"type\":\"genre\",\"data\":{\"id\":\"ACAO\",\"name\":\"Ação\"}}",
+                "{\"type\":\"genre\",\"data\":{\"name\":\"Drama\",\"categories_id\":[\"%s\",\"0190f3a2-7c1e-7000-8000-000000000001\"]}}".formatted(moviesId),
+                "{\"type\":\"cast_member\",\"data\":{\"id\":\"0190F3A27C1E70008000000000000001\",\"name\":\"Vin Diesel\",\"type\":\"ACTOR\"}}"
+        );
+
+        // Act
+        final var actualReport = catalogImporter.importFrom(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        Assertions.assertEquals(6, actualReport.lines());
+        Assertions.assertEquals(1, actualReport.created());
+        Assertions.assertEquals(5, actualReport.failed());
+        Assertions.assertEquals(new CatalogImportReport.Totals(1, 2), actualReport.totals().get("category"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(0, 2), actualReport.totals().get("genre"));
+        Assertions.assertEquals(new CatalogImportReport.Totals(0, 1), actualReport.totals().get("cast_member"));
+
+        final var expectedError = List.of("'id' should be 32 lower-case hex digits");
+        actualReport.failures().stream()
+                .filter(it -> it.line() != 5)
+                .forEach(it -> Assertions.assertEquals(expectedError, it.errors(), "line " + it.line()));
+
+        final var actualDrama = actualReport.failures().stream()
+                .filter(it -> it.line() == 5)
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(
+                List.of("Some categories could not be found: 0190f3a2-7c1e-7000-8000-000000000001"),
+                actualDrama.errors()
+        );
+
+        Assertions.assertEquals(List.of(moviesId), categoryRepository.findAll().stream().map(CategoryJpaEntity::getId).toList());
+        Assertions.assertEquals(0, genreRepository.count());
+        Assertions.assertEquals(0, castMemberRepository.count());
+    }
+
+    @Test
+    void givenALineTheDatabaseRefuses_whenCallsImport_thenShouldOnlyFailThatLine() throws Exception {
+        // Arrange
+        final var tooLongDescription = "a".repeat(4001);
+
+        final var body = String.join("\n",
+                "{\"type\":\"category\",\"data\":{\"name\":\"Filmes\"}}",
+                "{\"type\":\"category\",\"data\":{\"name\":\"Séries\",\"description\":\"%s\"}}".formatted(tooLongDescription),
+                "{\"type\":\"category\",\"data\":{\"name\":\"Documentários\"}}"
+        );
+
+        // Act
+        final var actualReport = catalogImporter.importFrom(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        Assertions.assertEquals(2, actualReport.created());
+        Assertions.assertEquals(1, actualReport.failed());
+        Assertions.assertEquals(new CatalogImportReport.Totals(2, 1), actualReport.totals().get("category"));
+        Assertions.assertEquals(List.of(2L), actualReport.failures().stream().map(CatalogImportReport.Failure::line).toList());
+
+        Assertions.assertEquals(2, categoryRepository.count());
+    }
+}
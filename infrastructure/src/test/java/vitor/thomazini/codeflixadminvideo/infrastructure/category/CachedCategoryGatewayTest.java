@@ -0,0 +1,159 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import vitor.thomazini.codeflixadminvideo.application.category.CategoryExistenceChecker;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.DefaultUpdateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryCommand;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryGateway;
+import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.infrastructure.cache.ReadThroughCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachedCategoryGatewayTest {
+
+    private CategoryGateway categoryGateway;
+    private ReadThroughCache<GenreId, Genre> genreCache;
+    private CategoryExistenceChecker existenceChecker;
+    private CachedCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = mock(CategoryGateway.class);
+        genreCache = new ReadThroughCache<>("genres", 10, Duration.ofMinutes(1));
+        existenceChecker = new CategoryExistenceChecker(categoryGateway, 10, Duration.ofMinutes(1));
+        gateway = new CachedCategoryGateway(
+                categoryGateway,
+                new ReadThroughCache<>("categories", 10, Duration.ofMinutes(1)),
+                genreCache,
+                existenceChecker
+        );
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindById_thenShouldHitTheDelegateOnceAndReturnCopies() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.id();
+
+        when(categoryGateway.findById(any())).thenReturn(Optional.of(category));
+
+        // Act
+        final var first = gateway.findById(expectedId).get();
+        first.update("Séries", null, false);
+        final var second = gateway.findById(expectedId).get();
+
+        // Assert
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("Filmes", second.name());
+        Assertions.assertTrue(second.isActive());
+
+        verify(categoryGateway, times(1)).findById(eq(expectedId));
+    }
+
+    @Test
+    void givenAnUpdatedCategory_whenCallsFindById_thenShouldLoadItAgain() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.id();
+
+        when(categoryGateway.findById(any())).thenReturn(Optional.of(category));
+        when(categoryGateway.update(any(), any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(expectedId);
+
+        // Act
+        gateway.update(Category.from(category).update("Séries", null, true));
+        gateway.findById(expectedId);
+
+        // Assert
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    void givenAnOlderRowReadFromTheReplica_whenCallsUpdateCategory_thenShouldStartFromTheStoredRow() {
+        // Arrange
+        final var stored = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = stored.id();
+        final var replicaCopy = Category.from(stored, 0);
+        final var masterCopy = Category.from(stored, 1);
+
+        final var getCategoryById = new DefaultGetCategoryByIdUseCase(gateway);
+        final var updateCategory = new DefaultUpdateCategoryUseCase(gateway.uncachedReads());
+
+        when(categoryGateway.findById(any()))
+                .thenReturn(Optional.of(replicaCopy))
+                .thenReturn(Optional.of(masterCopy));
+        when(categoryGateway.update(any(), any())).thenAnswer(returnsFirstArg());
+
+        final var actualRead = getCategoryById.execute(expectedId.value());
+
+        // Act
+        updateCategory.execute(UpdateCategoryCommand.with(expectedId.value(), "Séries", null, true, 1L));
+
+        // Assert
+        Assertions.assertEquals(0, actualRead.version());
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+        verify(categoryGateway).update(argThat(it -> it.version() == 1 && "Séries".equals(it.name())), eq(1L));
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsFindById_thenShouldLoadItAgainAndDropCachedGenres() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.id();
+        final var genre = Genre.newGenre("Ação", true);
+
+        when(categoryGateway.findById(any())).thenReturn(Optional.of(category));
+        genreCache.get(genre.id(), it -> Optional.of(genre));
+        gateway.findById(expectedId);
+
+        // Act
+        gateway.deleteById(expectedId);
+        gateway.findById(expectedId);
+
+        // Assert
+        verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+        Assertions.assertEquals(0, genreCache.stats().size());
+    }
+
+    @Test
+    void givenACreatedOrDeletedCategory_whenCallsMissing_thenShouldCheckItAgain() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.id();
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(expectedId))
+                .thenReturn(List.of());
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        // Act
+        final var beforeCreate = existenceChecker.missing(List.of(expectedId));
+        gateway.create(category);
+        final var afterCreate = existenceChecker.missing(List.of(expectedId));
+        gateway.deleteById(expectedId);
+        final var afterDelete = existenceChecker.missing(List.of(expectedId));
+
+        // Assert
+        Assertions.assertEquals(Set.of(expectedId), beforeCreate);
+        Assertions.assertEquals(Set.of(), afterCreate);
+        Assertions.assertEquals(Set.of(expectedId), afterDelete);
+        verify(categoryGateway, times(3)).existsByIds(any());
+    }
+}
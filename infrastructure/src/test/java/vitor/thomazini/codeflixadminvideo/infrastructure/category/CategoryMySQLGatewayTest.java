@@ -1,11 +1,19 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.category;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.annotation.Autowired;
 import vitor.thomazini.codeflixadminvideo.MySQLGatewayTest;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.CategoryListOutput;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
@@ -21,6 +29,9 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidCategory_whenCallsCreate_thenShouldReturnANewCategory() {
         // Arrange
@@ -207,6 +218,36 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(documentaries.id(), actualResult.items().get(0).id());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_thenShouldReturnSlices() {
+        // Arrange
+        final var expectedPerPage = 2;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        // Act
+        final var firstSlice = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", null, false));
+        final var lastSlice = categoryGateway.findAll(new SearchQuery(1, expectedPerPage, "", "name", "asc", null, false));
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstSlice.total());
+        Assertions.assertEquals(List.of(documentaries.id(), movies.id()), firstSlice.items().stream().map(Category::id).toList());
+
+        Assertions.assertEquals(expectedTotal, lastSlice.total());
+        Assertions.assertEquals(1, lastSlice.currentPage());
+        Assertions.assertEquals(expectedPerPage, lastSlice.perPage());
+        Assertions.assertEquals(List.of(series.id()), lastSlice.items().stream().map(Category::id).toList());
+    }
+
     @Test
     void givenEmptyCategoriesTable_whenCallsFindAll_thenShouldReturnEmptyPage() {
         // Arrange
@@ -390,4 +431,259 @@ class CategoryMySQLGatewayTest {
                         expectedIds.containsAll(actualResult)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_thenShouldPersistAll() {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        // Act
+        final var actualCategories = categoryGateway.createAll(List.of(movies, series));
+
+        // Assert
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals(List.of(movies.id(), series.id()), actualCategories.stream().map(Category::id).toList());
+
+        final var actualEntity = categoryRepository.findById(series.id().value()).get();
+        Assertions.assertEquals("Séries", actualEntity.getName());
+        Assertions.assertNull(actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsUpdateAll_thenShouldUpdateAll() {
+        // Arrange
+        final var movies = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var updatedMovies = Category.from(movies).update("Filmes", "A categoria mais assistida", true);
+        final var updatedSeries = Category.from(series).update("Séries", null, false);
+
+        // Act
+        final var actualCategories = categoryGateway.updateAll(List.of(updatedMovies, updatedSeries));
+
+        // Assert
+        Assertions.assertEquals(2, actualCategories.size());
+        Assertions.assertEquals(2, categoryRepository.count());
+
+        final var actualMovies = categoryRepository.findById(movies.id().value()).get();
+        Assertions.assertEquals("Filmes", actualMovies.getName());
+        Assertions.assertEquals("A categoria mais assistida", actualMovies.getDescription());
+
+        final var actualSeries = categoryRepository.findById(series.id().value()).get();
+        Assertions.assertEquals("Séries", actualSeries.getName());
+        Assertions.assertFalse(actualSeries.isActive());
+        Assertions.assertNotNull(actualSeries.getDeletedAt());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindByIds_thenShouldReturnOnlyExisting() {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(movies));
+
+        // Act
+        final var actualCategories = categoryGateway.findByIds(List.of(movies.id(), CategoryId.from("123")));
+
+        // Assert
+        Assertions.assertEquals(1, actualCategories.size());
+        Assertions.assertEquals(movies.id(), actualCategories.get(0).id());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_thenShouldThrowConflictAndKeepTheFirstUpdate() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var expectedErrorMessage = "Category with ID %s was changed since version 0".formatted(category.id().value());
+
+        final var first = categoryGateway.update(Category.from(category).update("Filmes", "Primeira", true));
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> categoryGateway.update(Category.from(category).update("Filmes", "Segunda", true))
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(1, first.version());
+
+        final var actualEntity = categoryRepository.findById(category.id().value()).get();
+        Assertions.assertEquals("Primeira", actualEntity.getDescription());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenNoExpectedVersion_whenCallsUpdate_thenShouldOverwriteWhateverVersionIsStored() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        categoryGateway.update(Category.from(category).update("Filmes", "Primeira", true));
+
+        // Act
+        final var actualCategory = categoryGateway.update(Category.from(category).update("Filmes", "Segunda", true), null);
+
+        // Assert
+        Assertions.assertEquals(2, actualCategory.version());
+
+        final var actualEntity = categoryRepository.findById(category.id().value()).get();
+        Assertions.assertEquals("Segunda", actualEntity.getDescription());
+        Assertions.assertEquals(2, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenNoExpectedVersionAndAMissingCategory_whenCallsUpdate_thenShouldThrowNotFound() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+
+        // Act
+        final Executable action = () -> categoryGateway.update(category, null);
+
+        // Assert
+        Assertions.assertThrows(NotFoundException.class, action);
+    }
+
+    @Test
+    void givenTheAggregateVersionAndAMissingCategory_whenCallsUpdate_thenShouldThrowNotFound() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+
+        // Act
+        final Executable action = () -> categoryGateway.update(category);
+
+        // Assert
+        Assertions.assertThrows(NotFoundException.class, action);
+    }
+
+    @Test
+    void givenAnUpdatedCategory_whenCallsFindAllByItsNewName_thenShouldFindIt() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        categoryGateway.update(Category.from(category).update("Documentários", null, true));
+
+        // Act
+        final var actualNewName = categoryGateway.findAll(new SearchQuery(0, 10, "documentários", "name", "asc"));
+        final var actualOldName = categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(List.of(category.id()), actualNewName.items().stream().map(Category::id).toList());
+        Assertions.assertTrue(actualOldName.items().isEmpty());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdateAll_thenShouldThrowConflictAndKeepTheStoredRow() {
+        // Arrange
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        categoryGateway.update(Category.from(category).update("Filmes", "Primeira", true));
+
+        // Act
+        final Executable action = () -> categoryGateway.updateAll(
+                List.of(Category.from(category, 0).update("Filmes", "Segunda", true))
+        );
+
+        // Assert
+        Assertions.assertThrows(ConflictException.class, action);
+        Assertions.assertEquals("Primeira", categoryRepository.findById(category.id().value()).get().getDescription());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSortedByDescriptionDesc_thenShouldReturnThemSorted() {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", "C", true);
+        final var documentaries = Category.newCategory("Documentários", "Z", true);
+        final var series = Category.newCategory("Séries", "A", true);
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(series)
+        ));
+
+        // Act
+        final var actualPage = categoryGateway.findAll(new SearchQuery(0, 3, "", "description", "desc"));
+
+        // Assert
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(
+                List.of(documentaries.id(), movies.id(), series.id()),
+                actualPage.items().stream().map(Category::id).toList()
+        );
+    }
+
+    @Test
+    void givenAnUnknownSort_whenCallsFindAll_thenShouldThrowDomainException() {
+        // Arrange
+        final var expectedErrorMessage = "'updatedAt' is not a valid sort, expected one of: createdAt, description, name";
+        final var aQuery = new SearchQuery(0, 10, "", "updatedAt", "asc");
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(aQuery)
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsList_thenShouldReturnOutputsWithoutLoadingEntities() {
+        // Arrange
+        final var movies = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+        entityManager.clear();
+
+        final var expectedFirst = CategoryListOutput.from(
+                categoryRepository.findById(documentaries.id().value()).get().toAggregate()
+        );
+        entityManager.clear();
+
+        // the first search builds the in-memory index of the test profile, which does load the entities
+        categoryGateway.list(new SearchQuery(0, 10, "mais assistida", "name", "asc"));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        final Pagination<CategoryListOutput> actualPage;
+        final Pagination<CategoryListOutput> actualFiltered;
+        try {
+            actualPage = categoryGateway.list(new SearchQuery(0, 2, "", "name", "asc"));
+            actualFiltered = categoryGateway.list(new SearchQuery(0, 10, "mais assistida", "name", "asc"));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(List.of(documentaries.id(), movies.id()), actualPage.items().stream().map(CategoryListOutput::id).toList());
+        Assertions.assertEquals(expectedFirst, actualPage.items().get(0));
+
+        Assertions.assertEquals(1, actualFiltered.total());
+        Assertions.assertEquals(movies.id(), actualFiltered.items().get(0).id());
+    }
+}
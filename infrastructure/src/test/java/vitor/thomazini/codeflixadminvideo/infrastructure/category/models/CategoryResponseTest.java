@@ -25,6 +25,7 @@ class CategoryResponseTest {
         final var expectedCreatedAt = Instant.now();
         final var expectedUpdatedAt = Instant.now();
         final var expectedDeletedAt = Instant.now();
+        final var expectedVersion = 3L;
 
         final var response = new CategoryResponse(
                 expectedId,
@@ -33,7 +34,8 @@ class CategoryResponseTest {
                 expectedIsActive,
                 expectedCreatedAt,
                 expectedUpdatedAt,
-                expectedDeletedAt
+                expectedDeletedAt,
+                expectedVersion
         );
 
         // Act
@@ -47,7 +49,8 @@ class CategoryResponseTest {
                 .hasJsonPathValue("$.is_active", expectedIsActive)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
                 .hasJsonPathValue("$.updated_at", expectedUpdatedAt.toString())
-                .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString());
+                .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString())
+                .hasJsonPathValue("$.version", expectedVersion);
     }
 
     @Test
@@ -0,0 +1,125 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class DbAdmissionTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAFreePermit_whenCalled_thenShouldAdmitWithoutWaiting() {
+        // Arrange
+        final var admission = new DbAdmission(1, 0, Duration.ofMillis(50));
+
+        // Act
+        final var actual = admitted(admission, () -> "ok").get();
+
+        // Assert
+        Assertions.assertEquals("ok", actual);
+        Assertions.assertEquals(new AdmissionStats(1, 0, 0, 0, 1, 0, 0, 0), admission.stats());
+    }
+
+    @Test
+    void givenANestedCall_whenCalled_thenShouldNotTakeASecondPermit() {
+        // Arrange
+        final var admission = new DbAdmission(1, 0, Duration.ofMillis(50));
+        final var inner = admitted(admission, () -> "inner");
+
+        // Act
+        final var actual = admitted(admission, inner::get).get();
+
+        // Assert
+        Assertions.assertEquals("inner", actual);
+        Assertions.assertEquals(1, admission.stats().admitted());
+    }
+
+    @Test
+    void givenAFullQueue_whenCalled_thenShouldShedImmediately() throws Exception {
+        // Arrange
+        final var admission = new DbAdmission(1, 0, Duration.ofSeconds(10));
+        hold(admission);
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                AdmissionRejectedException.class,
+                () -> admitted(admission, () -> "ok").get()
+        );
+
+        // Assert
+        Assertions.assertEquals("Database is saturated, 0 requests are already waiting", actualException.getMessage());
+        Assertions.assertEquals(1, admission.stats().shed());
+        Assertions.assertEquals(1, admission.stats().inUse());
+    }
+
+    @Test
+    void givenABusyPermit_whenWaitingLongerThanMaxWait_thenShouldTimeOut() throws Exception {
+        // Arrange
+        final var admission = new DbAdmission(1, 1, Duration.ofMillis(50));
+        hold(admission);
+
+        // Act
+        Assertions.assertThrows(AdmissionRejectedException.class, () -> admitted(admission, () -> "ok").get());
+
+        // Assert
+        Assertions.assertEquals(1, admission.stats().timedOut());
+        Assertions.assertEquals(0, admission.stats().queued());
+    }
+
+    @Test
+    void givenABusyPermit_whenReleasedWithinMaxWait_thenShouldAdmitTheWaiter() throws Exception {
+        // Arrange
+        final var admission = new DbAdmission(1, 1, Duration.ofSeconds(10));
+        hold(admission);
+
+        // Act
+        final var waiter = executor.submit(() -> admitted(admission, () -> "ok").get());
+        while (admission.stats().queued() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        Assertions.assertEquals("ok", waiter.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, admission.stats().admitted());
+    }
+
+    private void hold(final DbAdmission admission) throws InterruptedException {
+        final var blocking = admitted(admission, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        });
+        executor.submit(blocking::get);
+        holding.await();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<String> admitted(final DbAdmission admission, final Supplier<String> target) {
+        final var factory = new ProxyFactory(target);
+        factory.addInterface(Supplier.class);
+        factory.addAdvice(admission);
+        return (Supplier<String>) factory.getProxy();
+    }
+}
@@ -0,0 +1,84 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryCommand;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryCommand;
+import vitor.thomazini.codeflixadminvideo.application.category.update.UpdateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+import static vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ReadWriteRoutingDataSource.MASTER;
+import static vitor.thomazini.codeflixadminvideo.infrastructure.datasource.ReadWriteRoutingDataSource.REPLICA;
+
+// both pools point at the same in-memory database, so the replica never lags and only the routing is under test
+@IntegrationTest
+@TestPropertySource(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:adm_videos_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "datasource.replica.username=root",
+        "datasource.replica.password=123456"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private PoolMetrics poolMetrics;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Test
+    void givenAReplica_whenCallsQueryUseCases_thenShouldOnlyAcquireReplicaConnections() {
+        // Arrange
+        final var id = createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get().id();
+        final var master = acquired(MASTER);
+        final var replica = acquired(REPLICA);
+
+        // Act
+        final var actualCategory = getCategoryByIdUseCase.execute(id);
+        final var actualPage = listCategoriesUseCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals("Filmes", actualCategory.name());
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(master, acquired(MASTER));
+        Assertions.assertTrue(acquired(REPLICA) > replica);
+    }
+
+    @Test
+    void givenAReplica_whenCallsCommandUseCases_thenShouldOnlyAcquireMasterConnections() {
+        // Arrange
+        final var master = acquired(MASTER);
+        final var replica = acquired(REPLICA);
+
+        // Act
+        final var id = createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get().id();
+        updateCategoryUseCase.execute(UpdateCategoryCommand.with(id, "Séries", null, true)).get();
+
+        // Assert
+        Assertions.assertTrue(acquired(MASTER) > master);
+        Assertions.assertEquals(replica, acquired(REPLICA));
+    }
+
+    private long acquired(final String pool) {
+        return poolMetrics.stats().stream()
+                .filter(it -> it.name().equals(pool))
+                .findFirst()
+                .map(ConnectionPoolStats::acquired)
+                .orElse(0L);
+    }
+}
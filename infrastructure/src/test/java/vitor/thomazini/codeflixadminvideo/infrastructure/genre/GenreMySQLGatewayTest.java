@@ -1,24 +1,34 @@
 package vitor.thomazini.codeflixadminvideo.infrastructure.genre;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import vitor.thomazini.codeflixadminvideo.MySQLGatewayTest;
+import vitor.thomazini.codeflixadminvideo.application.genre.retrieve.list.GenreListOutput;
 import vitor.thomazini.codeflixadminvideo.domain.category.Category;
 import vitor.thomazini.codeflixadminvideo.domain.category.CategoryId;
+import vitor.thomazini.codeflixadminvideo.domain.exception.ConflictException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotificationException;
 import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
 import vitor.thomazini.codeflixadminvideo.domain.genre.GenreId;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
 import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
 import vitor.thomazini.codeflixadminvideo.infrastructure.category.CategoryMySQLGateway;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreJpaEntity;
 import vitor.thomazini.codeflixadminvideo.infrastructure.genre.persistence.GenreRepository;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 class GenreMySQLGatewayTest {
@@ -32,6 +42,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidGenre_whenCallsCreateGenre_thenShouldPersistGenre() {
         // Arrange
@@ -496,6 +509,25 @@ class GenreMySQLGatewayTest {
         Assertions.assertEquals(expectedGenreName, actualPage.items().getFirst().name());
     }
 
+    @Test
+    void givenAValidPagingWithoutTotal_whenCallsFindAll_thenShouldCountOnlyOnTheLastPage() {
+        // Arrange
+        mockGenres();
+
+        final var expectedTotal = 5;
+
+        // Act
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, false));
+        final var lastPage = genreGateway.findAll(new SearchQuery(2, 2, "", "name", "asc", null, false));
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertEquals(List.of("Ação", "Comédia romântica"), firstPage.items().stream().map(Genre::name).toList());
+
+        Assertions.assertEquals(expectedTotal, lastPage.total());
+        Assertions.assertEquals(List.of("Terror"), lastPage.items().stream().map(Genre::name).toList());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0,2,Ação;Comédia romântica",
@@ -541,6 +573,293 @@ class GenreMySQLGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Ação;Comédia romântica|Drama;Ficção científica|Terror",
+            "name,desc,Terror;Ficção científica|Drama;Comédia romântica|Ação",
+            "createdAt,asc,Comédia romântica;Ação|Drama;Terror|Ficção científica",
+    })
+    void givenAValidCursor_whenCallsFindAll_thenShouldSeekPages(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedPages
+    ) {
+        // Arrange
+        mockGenres();
+
+        final int expectedPerPage = 2;
+        final var expectedTerms = "";
+
+        // Act
+        var cursor = "";
+        for (final var expectedPage : expectedPages.split("\\|")) {
+            final var aQuery = new SearchQuery(
+                    0,
+                    expectedPerPage,
+                    expectedTerms,
+                    expectedSort,
+                    expectedDirection,
+                    cursor
+            );
+
+            final var actualPage = genreGateway.findAll(aQuery);
+
+            // Assert
+            Assertions.assertEquals(expectedPerPage, actualPage.perPage());
+            Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+            Assertions.assertEquals(
+                    List.of(expectedPage.split(";")),
+                    actualPage.items().stream().map(Genre::name).toList()
+            );
+
+            cursor = actualPage.nextCursor();
+        }
+
+        Assertions.assertNull(cursor);
+    }
+
+    @Test
+    void givenAValidTermAndCursor_whenCallsFindAll_thenShouldSeekFilteredPages() {
+        // Arrange
+        mockGenres();
+
+        final var firstQuery = new SearchQuery(0, 1, "o", "name", "asc", "");
+
+        // Act
+        final var firstPage = genreGateway.findAll(firstQuery);
+        final var secondPage = genreGateway.findAll(
+                new SearchQuery(0, 1, "o", "name", "asc", firstPage.nextCursor())
+        );
+
+        // Assert
+        Assertions.assertEquals("Ação", firstPage.items().getFirst().name());
+        Assertions.assertEquals("Comédia romântica", secondPage.items().getFirst().name());
+        Assertions.assertNotNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorFromAnotherSort_whenCallsFindAll_thenShouldThrowDomainException() {
+        // Arrange
+        mockGenres();
+
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+        final var aCursor = genreGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", ""))
+                .nextCursor();
+
+        final var aQuery = new SearchQuery(0, 1, "", "createdAt", "asc", aCursor);
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(aQuery)
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAMalformedCursor_whenCallsFindAll_thenShouldThrowDomainException() {
+        // Arrange
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(aQuery)
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAPageOfOneHundredGenresWithCategories_whenCallsFindAll_thenShouldBatchCategoriesInOneStatement() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var expectedPerPage = 100;
+        final var expectedStatements = 2L; // page and the batched categories lookup, the last page needs no count
+
+        final var genres = new ArrayList<GenreJpaEntity>();
+        for (int i = 0; i < expectedPerPage; i++) {
+            final var genre = Genre.newGenre("Genre %03d".formatted(i), true)
+                    .addCategories(i % 2 == 0 ? List.of(movies.id(), series.id()) : List.of(movies.id()));
+            genres.add(GenreJpaEntity.from(genre));
+        }
+        genreRepository.saveAllAndFlush(genres);
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        final Pagination<Genre> actualPage;
+        try {
+            actualPage = genreGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc"));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+
+        for (int i = 0; i < expectedPerPage; i++) {
+            final var expectedCategories = i % 2 == 0
+                    ? sorted(List.of(movies.id(), series.id()))
+                    : List.of(movies.id());
+            Assertions.assertEquals(expectedCategories, sorted(actualPage.items().get(i).categories()));
+        }
+    }
+
+    @Test
+    void givenAGenreWithFiveHundredCategories_whenCallsUpdateRenaming_thenShouldTouchNoCategoryRows() {
+        // Arrange
+        final var categories = categoryGateway.createAll(
+                IntStream.range(0, 500)
+                        .mapToObj(i -> Category.newCategory("Category %03d".formatted(i), null, true))
+                        .toList()
+        );
+        final var expectedCategories = sorted(categories.stream().map(Category::id).toList());
+        final var expectedStatements = 2L; // the versioned update and the lookup of the current category ids
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(expectedCategories);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        try {
+            genreGateway.update(Genre.from(genre).update("Aventura", true, expectedCategories));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+
+        final var actualGenre = genreGateway.findById(genre.id()).get();
+        Assertions.assertEquals("Aventura", actualGenre.name());
+        Assertions.assertEquals(expectedCategories, sorted(actualGenre.categories()));
+    }
+
+    @Test
+    void givenAGenreWithCategories_whenCallsUpdateSwappingSome_thenShouldApplyOnlyTheDelta() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var documentaries = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(List.of(movies.id(), series.id()));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var expectedCategories = sorted(List.of(series.id(), documentaries.id()));
+
+        // Act
+        final var actualUpdated = genreGateway.update(Genre.from(genre).update("Ação", true, expectedCategories));
+
+        // Assert
+        Assertions.assertEquals(expectedCategories, sorted(actualUpdated.categories()));
+
+        final var actualIds = genreRepository.findCategoryIdsByGenreId(genre.id().value());
+        Assertions.assertEquals(
+                expectedCategories,
+                sorted(actualIds.stream().map(CategoryId::from).toList())
+        );
+    }
+
+    @Test
+    void givenACategoryDeletedMeanwhile_whenCallsUpdateAddingIt_thenShouldThrowNotificationException() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(List.of(movies.id()));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        categoryGateway.deleteById(series.id());
+
+        final var expectedErrorMessage = "Some categories could not be found: %s".formatted(series.id().value());
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> genreGateway.update(Genre.from(genre).update("Drama", true, List.of(movies.id(), series.id())))
+        );
+
+        // Assert
+        Assertions.assertEquals(1, actualException.errors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.errors().get(0).message());
+
+        final var actualIds = genreRepository.findCategoryIdsByGenreId(genre.id().value());
+        Assertions.assertEquals(List.of(movies.id().value()), actualIds);
+    }
+
+    @Test
+    void givenPrePersistedGenres_whenCallsList_thenShouldReturnOutputsWithTheirCategories() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(movies.id(), series.id()));
+        final var drama = Genre.newGenre("Drama", false);
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(action), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+
+        final var expectedCategories = sorted(List.of(movies.id(), series.id())).stream()
+                .map(CategoryId::value)
+                .toList();
+
+        // Act
+        final var actualPage = genreGateway.list(new SearchQuery(0, 10, "", "name", "asc"));
+        final var actualKeyset = genreGateway.list(new SearchQuery(0, 1, "", "name", "desc", ""));
+
+        // Assert
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of(action.id().value(), drama.id().value()), actualPage.items().stream().map(GenreListOutput::id).toList());
+        Assertions.assertEquals(expectedCategories, actualPage.items().get(0).categories().stream().sorted().toList());
+        Assertions.assertTrue(actualPage.items().get(0).isActive());
+        Assertions.assertEquals(List.of(), actualPage.items().get(1).categories());
+
+        Assertions.assertEquals(List.of(drama.id().value()), actualKeyset.items().stream().map(GenreListOutput::id).toList());
+        Assertions.assertNotNull(actualKeyset.nextCursor());
+    }
+
+    @Test
+    void givenPrePersistedGenres_whenCallsExistsByIds_shouldReturnIds() {
+        // Arrange
+        final var action = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var horror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(action),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(horror)
+        ));
+
+        final var expectedIds = Set.of(action.id(), drama.id());
+
+        // Act
+        final var actualResult = genreGateway.existsByIds(List.of(action.id(), drama.id(), GenreId.from("123")));
+
+        // Assert
+        Assertions.assertEquals(expectedIds, Set.copyOf(actualResult));
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
@@ -556,4 +875,42 @@ class GenreMySQLGatewayTest {
                 .sorted(Comparator.comparing(CategoryId::value))
                 .toList();
     }
+
+    @Test
+    void givenTheAggregateVersionAndAMissingGenre_whenCallsUpdate_thenShouldThrowNotFound() {
+        // Arrange
+        final var genre = Genre.newGenre("Ação", true);
+
+        // Act
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> genreGateway.update(genre));
+
+        // Assert
+        Assertions.assertEquals("Genre with ID %s was not found".formatted(genre.id().value()), actualException.getMessage());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_thenShouldThrowConflictAndKeepTheFirstCategories() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(List.of(movies.id()));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+
+        final var first = genreGateway.update(Genre.from(genre).update("Ação", true, List.of(series.id())));
+
+        // Act
+        Assertions.assertThrows(
+                ConflictException.class,
+                () -> genreGateway.update(Genre.from(genre).update("Drama", true, List.of(movies.id())))
+        );
+
+        // Assert
+        Assertions.assertEquals(1, first.version());
+
+        final var actualGenre = genreGateway.findById(genre.id()).get();
+        Assertions.assertEquals("Ação", actualGenre.name());
+        Assertions.assertEquals(List.of(series.id()), actualGenre.categories());
+        Assertions.assertEquals(1, actualGenre.version());
+    }
 }
@@ -0,0 +1,78 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryCommand;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@IntegrationTest
+class JfrEventsTest {
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenARecording_whenCallsUseCases_thenShouldRecordUseCaseGatewayAndJsonEvents() throws Exception {
+        // Arrange
+        final var file = directory.resolve("events.jfr");
+
+        // Act
+        try (final var recording = new Recording()) {
+            recording.enable(UseCaseEvent.NAME);
+            recording.enable(GatewayEvent.NAME);
+            recording.enable(JsonEvent.NAME);
+            recording.start();
+
+            createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true));
+            Assertions.assertThrows(NotFoundException.class, () -> getCategoryByIdUseCase.execute("123"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        final var events = RecordingFile.readAllEvents(file);
+
+        final var useCases = named(events, UseCaseEvent.NAME);
+        Assertions.assertTrue(useCases.stream().anyMatch(it ->
+                it.getString("useCase").equals("CreateCategoryUseCase") && it.getString("outcome").equals("SUCCESS")));
+        Assertions.assertTrue(useCases.stream().anyMatch(it ->
+                it.getString("useCase").equals("GetCategoryByIdUseCase") && it.getString("outcome").equals("NOT_FOUND")));
+
+        final var gateways = named(events, GatewayEvent.NAME);
+        Assertions.assertTrue(gateways.stream().anyMatch(it ->
+                it.getString("gateway").equals("CategoryMySQLGateway")
+                        && it.getString("operation").equals("create")
+                        && it.getInt("rows") == 1
+                        && !it.getBoolean("failed")));
+        Assertions.assertTrue(gateways.stream().anyMatch(it ->
+                it.getString("operation").equals("findById") && it.getInt("rows") == 0));
+
+        // the outbox serializes the created category
+        Assertions.assertTrue(named(events, JsonEvent.NAME).stream().anyMatch(it ->
+                it.getString("operation").equals("write") && it.getLong("bytes") > 0));
+    }
+
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(it -> it.getEventType().getName().equals(name))
+                .toList();
+    }
+}
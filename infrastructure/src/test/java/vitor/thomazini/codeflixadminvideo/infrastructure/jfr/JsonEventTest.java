@@ -0,0 +1,16 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+class JsonEventTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{\"name\":\"Filmes\"}", "{\"name\":\"Ficção científica\"}", "{\"emoji\":\"🎬\"}", "€"})
+    void givenAJson_whenCallsUtf8Length_thenShouldMatchTheEncodedLength(final String json) {
+        Assertions.assertEquals(json.getBytes(StandardCharsets.UTF_8).length, JsonEvent.utf8Length(json));
+    }
+}
@@ -0,0 +1,59 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class PinningMonitorTest {
+
+    private final PinningMonitor monitor = new PinningMonitor(true, Duration.ofMillis(10));
+    private final Object lock = new Object();
+
+    @AfterEach
+    void stop() {
+        monitor.stop();
+    }
+
+    @Test
+    void givenAVirtualThreadSleepingInsideAMonitor_whenMonitoring_thenShouldCountThePinning() throws Exception {
+        // Arrange
+        monitor.start();
+
+        // Act
+        Thread.ofVirtual().start(this::sleepWhileHoldingTheLock).join();
+
+        // Assert
+        final var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (monitor.stats().pinned() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        final var actualStats = monitor.stats();
+        Assertions.assertTrue(actualStats.running());
+        Assertions.assertEquals(1, actualStats.pinned());
+        Assertions.assertTrue(actualStats.maxMillis() >= 10);
+        Assertions.assertTrue(actualStats.topFrames().keySet().stream()
+                .anyMatch(it -> it.startsWith(PinningMonitorTest.class.getName())));
+    }
+
+    @Test
+    void givenADisabledMonitor_whenCallsStats_thenShouldNotBeRunning() {
+        final var disabled = new PinningMonitor(false, Duration.ofMillis(10));
+
+        Assertions.assertFalse(disabled.isAutoStartup());
+        Assertions.assertFalse(disabled.stats().running());
+        Assertions.assertEquals(0, disabled.stats().pinned());
+    }
+
+    private void sleepWhileHoldingTheLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
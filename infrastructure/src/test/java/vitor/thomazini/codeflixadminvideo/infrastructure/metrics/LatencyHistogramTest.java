@@ -0,0 +1,66 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void givenNoSamples_whenCallsPercentile_thenShouldReturnZero() {
+        Assertions.assertEquals(0, histogram.count());
+        Assertions.assertEquals(0, histogram.percentileMillis(0.99));
+        Assertions.assertEquals(0, histogram.meanMillis());
+    }
+
+    @Test
+    void givenSamples_whenCallsPercentile_thenShouldReturnTheBucketUpperBound() {
+        // Arrange
+        for (int i = 0; i < 98; i++) {
+            histogram.record(millis(3));
+        }
+        histogram.record(millis(40));
+        histogram.record(millis(400));
+
+        // Act & Assert
+        Assertions.assertEquals(100, histogram.count());
+        Assertions.assertEquals(5, histogram.percentileMillis(0.5));
+        Assertions.assertEquals(50, histogram.percentileMillis(0.99));
+        Assertions.assertEquals(500, histogram.percentileMillis(1));
+        Assertions.assertEquals(400, histogram.maxMillis());
+    }
+
+    @Test
+    void givenASampleOverTheLastBound_whenCallsPercentile_thenShouldReturnTheMax() {
+        // Arrange
+        histogram.record(millis(30_000));
+
+        // Act & Assert
+        Assertions.assertEquals(30_000, histogram.percentileMillis(0.5));
+        Assertions.assertEquals(0L, histogram.buckets().get("10000"));
+        Assertions.assertEquals(1L, histogram.buckets().get("+Inf"));
+    }
+
+    @Test
+    void givenSamples_whenCallsBuckets_thenShouldBeCumulative() {
+        // Arrange
+        histogram.record(millis(1));
+        histogram.record(millis(2));
+        histogram.record(millis(7));
+
+        // Act
+        final var actualBuckets = histogram.buckets();
+
+        // Assert
+        Assertions.assertEquals(1L, actualBuckets.get("1"));
+        Assertions.assertEquals(2L, actualBuckets.get("2.5"));
+        Assertions.assertEquals(2L, actualBuckets.get("5"));
+        Assertions.assertEquals(3L, actualBuckets.get("10"));
+        Assertions.assertEquals(3L, actualBuckets.get("+Inf"));
+    }
+
+    private static long millis(final long millis) {
+        return millis * 1_000_000;
+    }
+}
@@ -0,0 +1,57 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.list.ListCategoriesUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
+
+import java.util.stream.Stream;
+
+@IntegrationTest
+class SqlMetricsDataSourceTest {
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @AfterEach
+    void unbind() {
+        RequestSqlStats.unbind();
+    }
+
+    @Test
+    void givenABoundRequest_whenCallsUseCase_thenShouldCountStatementsTimeAndRows() {
+        // Arrange
+        categoryRepository.saveAllAndFlush(Stream.of("Filmes", "Séries", "Documentários")
+                .map(it -> CategoryJpaEntity.from(Category.newCategory(it, null, true)))
+                .toList());
+
+        final var stats = RequestSqlStats.bind();
+
+        // Act
+        listCategoriesUseCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertTrue(stats.statements() >= 1);
+        Assertions.assertTrue(stats.rows() >= 3);
+        Assertions.assertTrue(stats.jdbcNanos() > 0);
+    }
+
+    @Test
+    void givenNoBoundRequest_whenCallsUseCase_thenShouldCountNothing() {
+        // Act
+        final var actualPage = listCategoriesUseCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertNull(RequestSqlStats.current());
+    }
+}
@@ -0,0 +1,93 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlMetricsFilter.OVER_BUDGET_HEADER;
+import static vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlMetricsFilter.ROWS_HEADER;
+import static vitor.thomazini.codeflixadminvideo.infrastructure.metrics.SqlMetricsFilter.STATEMENTS_HEADER;
+
+class SqlMetricsFilterTest {
+
+    private final SqlRequestMetrics metrics = new SqlRequestMetrics();
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    void givenARequestWithinBudget_whenFiltered_thenShouldAddTheHeadersAndKeepTheBody() throws Exception {
+        // Arrange
+        final var filter = new SqlMetricsFilter(metrics, 5, true);
+        final var request = request();
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain(servlet(2)));
+
+        // Assert
+        Assertions.assertEquals("2", response.getHeader(STATEMENTS_HEADER));
+        Assertions.assertEquals("0", response.getHeader(ROWS_HEADER));
+        Assertions.assertNull(response.getHeader(OVER_BUDGET_HEADER));
+        Assertions.assertEquals("ok", response.getContentAsString());
+        Assertions.assertEquals(
+                new SqlRouteStats("GET /categories/{id}", 1, 2, 2, 0, 0, 0),
+                metrics.stats().get(0)
+        );
+        Assertions.assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void givenARequestOverBudget_whenFiltered_thenShouldFlagIt() throws Exception {
+        // Arrange
+        final var filter = new SqlMetricsFilter(metrics, 5, true);
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, new MockFilterChain(servlet(6)));
+
+        // Assert
+        Assertions.assertEquals("6", response.getHeader(STATEMENTS_HEADER));
+        Assertions.assertEquals("true", response.getHeader(OVER_BUDGET_HEADER));
+        Assertions.assertEquals(1, metrics.stats().get(0).overBudget());
+    }
+
+    @Test
+    void givenHeadersDisabled_whenFiltered_thenShouldOnlyRecordMetrics() throws Exception {
+        // Arrange
+        final var filter = new SqlMetricsFilter(metrics, 5, false);
+        final var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, new MockFilterChain(servlet(1)));
+
+        // Assert
+        Assertions.assertNull(response.getHeader(STATEMENTS_HEADER));
+        Assertions.assertEquals("ok", response.getContentAsString());
+        Assertions.assertEquals(1, metrics.stats().get(0).requests());
+    }
+
+    private static MockHttpServletRequest request() {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/categories/{id}");
+        return request;
+    }
+
+    private HttpServlet servlet(final int statements) {
+        return new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                for (int i = 0; i < statements; i++) {
+                    inspector.inspect("select * from categories where id = ?");
+                }
+                resp.getWriter().write("ok");
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryCommand;
+import vitor.thomazini.codeflixadminvideo.application.category.create.CreateCategoryUseCase;
+import vitor.thomazini.codeflixadminvideo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import vitor.thomazini.codeflixadminvideo.application.genre.delete.DeleteGenreUseCase;
+import vitor.thomazini.codeflixadminvideo.domain.exception.NotFoundException;
+
+@IntegrationTest
+class UseCaseTimerTest {
+
+    @Autowired
+    private UseCaseMetrics useCaseMetrics;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private DeleteGenreUseCase deleteGenreUseCase;
+
+    @Test
+    void givenAValidCommand_whenCallsUseCase_thenShouldRecordASuccessfulCall() {
+        // Arrange
+        final var before = stats("CreateCategoryUseCase");
+
+        // Act
+        createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true));
+
+        // Assert
+        final var after = stats("CreateCategoryUseCase");
+        Assertions.assertEquals(before.calls() + 1, after.calls());
+        Assertions.assertEquals(before.notification(), after.notification());
+        Assertions.assertEquals(0, after.inFlight());
+        Assertions.assertEquals(after.calls(), after.latencyBuckets().get("+Inf"));
+    }
+
+    @Test
+    void givenAnInvalidCommand_whenCallsUseCase_thenShouldCountANotification() {
+        // Arrange
+        final var before = stats("CreateCategoryUseCase");
+
+        // Act
+        createCategoryUseCase.execute(CreateCategoryCommand.with(null, null, true));
+
+        // Assert
+        final var after = stats("CreateCategoryUseCase");
+        Assertions.assertEquals(before.calls() + 1, after.calls());
+        Assertions.assertEquals(before.notification() + 1, after.notification());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsUseCase_thenShouldCountANotFound() {
+        // Arrange
+        final var before = stats("GetCategoryByIdUseCase");
+
+        // Act
+        Assertions.assertThrows(NotFoundException.class, () -> getCategoryByIdUseCase.execute("123"));
+
+        // Assert
+        final var after = stats("GetCategoryByIdUseCase");
+        Assertions.assertEquals(before.calls() + 1, after.calls());
+        Assertions.assertEquals(before.notFound() + 1, after.notFound());
+        Assertions.assertEquals(before.otherErrors(), after.otherErrors());
+        Assertions.assertEquals(0, after.inFlight());
+    }
+
+    @Test
+    void givenAUnitUseCase_whenCallsUseCase_thenShouldRecordIt() {
+        // Arrange
+        final var before = stats("DeleteGenreUseCase");
+
+        // Act
+        deleteGenreUseCase.execute("123");
+
+        // Assert
+        Assertions.assertEquals(before.calls() + 1, stats("DeleteGenreUseCase").calls());
+    }
+
+    private UseCaseStats stats(final String useCase) {
+        return useCaseMetrics.stats().stream()
+                .filter(it -> it.name().equals(useCase))
+                .findFirst()
+                .orElse(new UseCaseStats(useCase, 0, 0, 0, 0, 0, 0, 0, 0, 0, null));
+    }
+}
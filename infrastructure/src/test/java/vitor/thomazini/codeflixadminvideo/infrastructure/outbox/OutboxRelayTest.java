@@ -0,0 +1,137 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.outbox;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMember;
+import vitor.thomazini.codeflixadminvideo.domain.castmember.CastMemberType;
+import vitor.thomazini.codeflixadminvideo.domain.category.Category;
+import vitor.thomazini.codeflixadminvideo.domain.genre.Genre;
+import vitor.thomazini.codeflixadminvideo.infrastructure.castmember.CastMemberMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.CategoryMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.json.Json;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.GenreMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.genre.models.GenreResponse;
+import vitor.thomazini.codeflixadminvideo.infrastructure.outbox.persistence.OutboxEventRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+@IntegrationTest
+class OutboxRelayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = (InMemoryOutboxSink) outboxSink;
+        sink.drain();
+    }
+
+    @Test
+    void givenGatewayWrites_whenCallsRelay_thenShouldPublishThemInOrderAndClearTheOutbox() {
+        // Arrange
+        final var movies = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.update(Category.from(movies).update("Filmes", "A categoria mais assistida", true));
+        final var action = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(movies.id())));
+        genreGateway.deleteById(action.id());
+        final var actor = castMemberGateway.create(CastMember.newCastMember("Vin Diesel", CastMemberType.ACTOR));
+
+        Assertions.assertEquals(5, outboxEventRepository.count());
+
+        // Act
+        final var actualPublished = outboxRelay.relay();
+
+        // Assert
+        Assertions.assertEquals(5, actualPublished);
+        Assertions.assertEquals(0, outboxEventRepository.count());
+
+        final var actualEvents = sink.drain();
+        Assertions.assertEquals(
+                List.of("category", "category", "genre", "genre", "cast_member"),
+                actualEvents.stream().map(OutboxEvent::aggregateType).toList()
+        );
+        Assertions.assertEquals(
+                List.of(OutboxEvent.Type.CREATED, OutboxEvent.Type.UPDATED, OutboxEvent.Type.CREATED, OutboxEvent.Type.DELETED, OutboxEvent.Type.CREATED),
+                actualEvents.stream().map(OutboxEvent::type).toList()
+        );
+        Assertions.assertEquals(
+                List.of(movies.id().value(), movies.id().value(), action.id().value(), action.id().value(), actor.id().value()),
+                actualEvents.stream().map(OutboxEvent::aggregateId).toList()
+        );
+
+        final var createdGenre = Json.readValue(actualEvents.get(2).payload(), GenreResponse.class);
+        Assertions.assertEquals(List.of(movies.id().value()), createdGenre.categories());
+        Assertions.assertNull(actualEvents.get(3).payload());
+    }
+
+    @Test
+    void givenARolledBackWrite_whenCallsRelay_thenShouldPublishNothing() {
+        // Arrange
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryGateway.create(Category.newCategory("Filmes", null, true));
+            status.setRollbackOnly();
+        });
+
+        // Act
+        final var actualPublished = outboxRelay.relay();
+
+        // Assert
+        Assertions.assertEquals(0, actualPublished);
+        Assertions.assertTrue(sink.drain().isEmpty());
+    }
+
+    @Test
+    void givenAFailingSink_whenCallsRelay_thenShouldKeepTheEventsForTheNextRun() {
+        // Arrange
+        final var expectedErrorMessage = "sink is down";
+        final var failingRelay = new OutboxRelay(
+                outboxEventRepository,
+                events -> {
+                    throw new IllegalStateException(expectedErrorMessage);
+                },
+                transactionManager,
+                10,
+                Duration.ofSeconds(1),
+                false
+        );
+        categoryGateway.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        ));
+
+        // Act
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, failingRelay::relay);
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(2, outboxEventRepository.count());
+        Assertions.assertEquals(2, outboxRelay.relay());
+        Assertions.assertEquals(2, sink.drain().size());
+    }
+}
@@ -0,0 +1,66 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import vitor.thomazini.codeflixadminvideo.domain.exception.DomainException;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.CategoryMySQLGateway;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryListRow;
+
+class QueryPlansTest {
+
+    private final QueryPlans<CategoryJpaEntity, CategoryListRow> plans = new QueryPlans<>(
+            CategoryJpaEntity.class,
+            CategoryListRow.class,
+            CategoryListRow.ATTRIBUTES,
+            CategoryMySQLGateway.SORTABLE
+    );
+
+    @Test
+    void givenAnAllowedSort_whenCallsPlan_thenShouldReturnThePrebuiltPlan() {
+        // Act
+        final var actualPlan = plans.plan(new SearchQuery(0, 10, "", "createdAt", "DESC"));
+
+        // Assert
+        Assertions.assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), actualPlan.sort());
+        Assertions.assertEquals("select e from Category e order by e.createdAt desc", actualPlan.select());
+        Assertions.assertEquals(
+                "select new %s(e.id, e.name, e.description, e.active, e.createdAt, e.deletedAt) from Category e order by e.createdAt desc"
+                        .formatted(CategoryListRow.class.getName()),
+                actualPlan.rows()
+        );
+        Assertions.assertSame(actualPlan, plans.plan(new SearchQuery(1, 50, "", "createdAt", "desc")));
+    }
+
+    @Test
+    void givenAnUnknownSort_whenCallsPlan_thenShouldThrowDomainException() {
+        // Arrange
+        final var expectedErrorMessage = "'active' is not a valid sort, expected one of: createdAt, description, name";
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> plans.plan(new SearchQuery(0, 10, "", "active", "asc"))
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAnUnknownDirection_whenCallsPlan_thenShouldThrowDomainException() {
+        // Arrange
+        final var expectedErrorMessage = "'sideways' is not a valid direction, expected asc or desc";
+
+        // Act
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> plans.plan(new SearchQuery(0, 10, "", "name", "sideways"))
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
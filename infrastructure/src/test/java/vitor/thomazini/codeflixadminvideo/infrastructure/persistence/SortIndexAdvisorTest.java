@@ -0,0 +1,63 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import vitor.thomazini.codeflixadminvideo.IntegrationTest;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+
+@IntegrationTest
+class SortIndexAdvisorTest {
+
+    @Autowired
+    private SortIndexAdvisor sortIndexAdvisor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void givenTheMigratedSchema_whenCallsUnindexedSorts_thenShouldFindNone() throws SQLException {
+        Assertions.assertEquals(List.of(), sortIndexAdvisor.unindexedSorts());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "SELECT id FROM categories ORDER BY name LIMIT 10,idx_categories_name",
+            "SELECT id FROM categories ORDER BY created_at LIMIT 10,idx_categories_created_at",
+            "SELECT id FROM categories WHERE deleted_at IS NULL,idx_categories_deleted_at",
+            "SELECT id FROM genres ORDER BY name LIMIT 10,idx_genres_name",
+            "SELECT id FROM genres ORDER BY created_at LIMIT 10,idx_genres_created_at",
+            "SELECT id FROM cast_members ORDER BY name LIMIT 10,idx_cast_members_name",
+            "SELECT id FROM cast_members ORDER BY created_at LIMIT 10,idx_cast_members_created_at",
+            "SELECT id FROM cast_members ORDER BY type LIMIT 10,idx_cast_members_type",
+            "SELECT genre_id FROM genres_categories WHERE category_id = X'00',fk_category_id",
+    })
+    void givenAListQuery_whenCallsExplain_thenShouldUseTheIndex(final String query, final String expectedIndex) throws SQLException {
+        // Act
+        final var actualPlan = explain(query);
+
+        // Assert
+        Assertions.assertTrue(actualPlan.contains(expectedIndex), actualPlan);
+    }
+
+    private String explain(final String query) throws SQLException {
+        final var plan = new StringBuilder();
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.createStatement();
+             final var rows = statement.executeQuery("EXPLAIN " + query)) {
+            final var columns = rows.getMetaData().getColumnCount();
+            while (rows.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    plan.append(rows.getString(i)).append(' ');
+                }
+            }
+        }
+        return plan.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.rebuild(Map.of(
+                "1", Arrays.asList("Amazon Originals", "Categoria exclusiva da Amazon"),
+                "2", Arrays.asList("Kids", "Categoria para crianças"),
+                "3", Arrays.asList("Filmes", null)
+        ));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "ZON,1",
+            "da Amazon,1",
+            "criANças,2",
+            "Ki,2",
+            "fil,3",
+    })
+    void givenATerm_whenCallsSearch_thenShouldMatchLikeAnInfixLike(final String term, final String expectedId) {
+        Assertions.assertEquals(Set.of(expectedId), index.search(term));
+    }
+
+    @Test
+    void givenATermSharedByDocuments_whenCallsSearch_thenShouldReturnAllOfThem() {
+        Assertions.assertEquals(Set.of("1", "2"), index.search("categoria"));
+        Assertions.assertEquals(Set.of("1", "2", "3"), index.search("i"));
+    }
+
+    @Test
+    void givenAnUnknownTerm_whenCallsSearch_thenShouldReturnEmpty() {
+        Assertions.assertTrue(index.search("netflix").isEmpty());
+    }
+
+    @Test
+    void givenAnUpdatedDocument_whenCallsSearch_thenShouldMatchOnlyItsNewValues() {
+        // Act
+        index.put("3", Arrays.asList("Séries", null));
+
+        // Assert
+        Assertions.assertTrue(index.search("fil").isEmpty());
+        Assertions.assertEquals(Set.of("3"), index.search("sér"));
+    }
+
+    @Test
+    void givenARemovedDocument_whenCallsSearch_thenShouldNotMatchIt() {
+        // Act
+        index.remove("1");
+
+        // Assert
+        Assertions.assertTrue(index.search("amazon").isEmpty());
+        Assertions.assertEquals(Set.of("2"), index.search("categoria"));
+    }
+
+    @Test
+    void givenAStaleIndex_whenRebuilt_thenShouldBeFresh() {
+        // Arrange
+        index.markStale();
+        Assertions.assertTrue(index.isStale());
+
+        // Act
+        index.rebuild(Map.of("4", Arrays.asList("Sports", null)));
+
+        // Assert
+        Assertions.assertFalse(index.isStale());
+        Assertions.assertEquals(Set.of("4"), index.search("port"));
+        Assertions.assertTrue(index.search("kids").isEmpty());
+    }
+}
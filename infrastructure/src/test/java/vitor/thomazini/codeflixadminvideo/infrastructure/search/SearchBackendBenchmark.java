@@ -0,0 +1,151 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.search;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryJpaEntity;
+import vitor.thomazini.codeflixadminvideo.infrastructure.category.persistence.CategoryRepository;
+import vitor.thomazini.codeflixadminvideo.infrastructure.configuration.WebServerConfig;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the search backends against the LIKE scan on one million categories. Needs Docker, run it with
+ * {@code ./gradlew :infrastructure:benchmarkTests}.
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class)
+public class SearchBackendBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH = 1_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] WORDS = {
+            "filmes", "series", "documentarios", "kids", "esportes", "originals", "classicos", "lancamentos",
+            "animacao", "terror", "comedia", "drama", "romance", "suspense", "ficcao", "aventura"
+    };
+
+    private static final List<String> TERMS = List.of("ZZQX", "originals", "drama rom", "ct");
+
+    private static final SearchableEntity<CategoryJpaEntity> SEARCHABLE = new SearchableEntity<>(
+            CategoryJpaEntity.class,
+            CategoryJpaEntity::getId,
+            List.of("name", "description"),
+            it -> Arrays.asList(it.getName(), it.getDescription())
+    );
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeAll
+    static void seed(
+            @Autowired final JdbcTemplate jdbcTemplate,
+            @Autowired final TransactionTemplate transactionTemplate
+    ) {
+        final var random = new Random(42);
+        final var now = Timestamp.from(Instant.now());
+
+        for (int offset = 0; offset < ROWS; offset += BATCH) {
+            final var args = new ArrayList<Object>();
+            final var rows = new ArrayList<String>();
+            for (int i = 0; i < BATCH; i++) {
+                final var rare = (offset + i) % 100_000 == 0 ? " zzqx" : "";
+                args.add(IdUtils.uuid());
+                args.add(word(random) + " " + word(random) + rare);
+                args.add(word(random) + " " + word(random) + " " + word(random));
+                args.add(now);
+                args.add(now);
+                rows.add("(UNHEX(?), ?, ?, TRUE, ?, ?)");
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO categories (id, name, description, is_active, created_at, updated_at) VALUES "
+                            + String.join(", ", rows),
+                    args.toArray()
+            ));
+        }
+    }
+
+    @Test
+    public void compareBackends() {
+        final var backends = new LinkedHashMap<String, SearchBackend>();
+        backends.put("like", new LikeSearchBackend());
+        backends.put("fulltext", new FullTextSearchBackend());
+        backends.put("index", new InvertedIndexSearchBackend(entityManagerFactory));
+
+        Assertions.assertEquals(ROWS, categoryRepository.count());
+
+        final var buildStart = System.nanoTime();
+        backends.get("index").matching(SEARCHABLE, "warm up");
+        System.out.printf("index build over %d rows: %d ms%n", ROWS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        System.out.printf("%-12s %-10s %12s %10s%n", "term", "backend", "avg ms/op", "total");
+        for (final var term : TERMS) {
+            for (final var backend : backends.entrySet()) {
+                final var result = measure(backend.getValue(), term);
+                System.out.printf("%-12s %-10s %12.2f %10d%n", term, backend.getKey(), result[0], (long) result[1]);
+            }
+        }
+    }
+
+    private double[] measure(final SearchBackend backend, final String term) {
+        final var page = PageRequest.of(0, 10, Sort.by("name"));
+
+        for (int i = 0; i < WARMUP; i++) {
+            categoryRepository.findAll(backend.matching(SEARCHABLE, term), page);
+        }
+
+        long total = 0;
+        final var start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            total = categoryRepository.findAll(backend.matching(SEARCHABLE, term), page).getTotalElements();
+        }
+        final var elapsed = System.nanoTime() - start;
+
+        return new double[]{elapsed / 1_000_000d / ITERATIONS, total};
+    }
+
+    private static String word(final Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,40 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import vitor.thomazini.codeflixadminvideo.domain.utils.IdUtils;
+
+class BinaryIdTypeTest {
+
+    @Test
+    void givenAHexId_whenConverted_thenShouldRoundTripThrough16Bytes() {
+        // Arrange
+        final var expectedId = IdUtils.uuid();
+
+        // Act
+        final var bytes = BinaryIdType.toBytes(expectedId);
+        final var actualId = BinaryIdType.toHex(bytes);
+
+        // Assert
+        Assertions.assertEquals(16, bytes.length);
+        Assertions.assertEquals(expectedId, actualId);
+    }
+
+    @Test
+    void givenAnUpperCaseHexId_whenConverted_thenShouldReadBackInLowerCase() {
+        // Act
+        final var actualId = BinaryIdType.toHex(BinaryIdType.toBytes("0123456789ABCDEF0123456789ABCDEF"));
+
+        // Assert
+        Assertions.assertEquals("0123456789abcdef0123456789abcdef", actualId);
+    }
+
+    @Test
+    void givenANonHexId_whenConverted_thenShouldKeepItsRawBytes() {
+        // Act
+        final var bytes = BinaryIdType.toBytes("123");
+
+        // Assert
+        Assertions.assertArrayEquals(new byte[]{'1', '2', '3'}, bytes);
+    }
+}
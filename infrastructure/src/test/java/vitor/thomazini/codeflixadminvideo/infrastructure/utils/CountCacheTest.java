@@ -0,0 +1,142 @@
+package vitor.thomazini.codeflixadminvideo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.Pagination;
+import vitor.thomazini.codeflixadminvideo.domain.pagination.SearchQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CountCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger counts = new AtomicInteger();
+    private final CountCache cache = new CountCache(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void givenTheSameNormalizedTerms_whenCallsCountWithinTtl_thenShouldCountOnce() {
+        // Act
+        final var first = cache.count("Movie", this::count);
+        final var second = cache.count("MOVIE", this::count);
+
+        // Assert
+        Assertions.assertEquals(10, first);
+        Assertions.assertEquals(10, second);
+        Assertions.assertEquals(1, counts.get());
+    }
+
+    @Test
+    void givenBlankTerms_whenCallsCount_thenShouldShareTheUnfilteredEntry() {
+        // Act
+        cache.count(null, this::count);
+        cache.count("  ", this::count);
+        cache.count("", this::count);
+
+        // Assert
+        Assertions.assertEquals(1, counts.get());
+    }
+
+    @Test
+    void givenAnExpiredEntry_whenCallsCount_thenShouldCountAgain() {
+        // Arrange
+        cache.count("movie", this::count);
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // Act
+        cache.count("movie", this::count);
+
+        // Assert
+        Assertions.assertEquals(2, counts.get());
+    }
+
+    @Test
+    void givenAnInvalidatedCache_whenCallsCount_thenShouldCountAgain() {
+        // Arrange
+        cache.count("movie", this::count);
+        cache.invalidate();
+
+        // Act
+        cache.count("movie", this::count);
+
+        // Assert
+        Assertions.assertEquals(2, counts.get());
+    }
+
+    @Test
+    void givenAnInvalidationInsideATransaction_whenCallsCount_thenShouldKeepTheEntryUntilItCommits() {
+        // Arrange
+        cache.count("movie", this::count);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate();
+
+            // Act
+            cache.count("movie", this::count);
+            final var beforeCommit = counts.get();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            cache.count("movie", this::count);
+
+            // Assert
+            Assertions.assertEquals(1, beforeCommit);
+            Assertions.assertEquals(2, counts.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenAZeroTtl_whenCallsCount_thenShouldAlwaysCount() {
+        // Arrange
+        final var disabled = new CountCache(Duration.ZERO, clock::get);
+
+        // Act
+        disabled.count("movie", this::count);
+        disabled.count("movie", this::count);
+
+        // Assert
+        Assertions.assertEquals(2, counts.get());
+    }
+
+    @Test
+    void givenTheLastSlice_whenCallsTotalOf_thenShouldNotCount() {
+        // Arrange
+        final var slice = Window.from(List.of("a", "b"), ScrollPosition::offset, false);
+        final var query = new SearchQuery(2, 5, "", "name", "asc", null, false);
+
+        // Act
+        final var actualTotal = cache.totalOf(query, 10, slice, this::count);
+
+        // Assert
+        Assertions.assertEquals(12, actualTotal);
+        Assertions.assertEquals(0, counts.get());
+    }
+
+    @Test
+    void givenAnOpenSlice_whenCallsTotalOf_thenShouldCountOnlyWhenTotalIsRequested() {
+        // Arrange
+        final var slice = Window.from(List.of("a", "b"), ScrollPosition::offset, true);
+
+        // Act
+        final var withoutTotal = cache.totalOf(new SearchQuery(0, 2, "", "name", "asc", null, false), 0, slice, this::count);
+        final var withTotal = cache.totalOf(new SearchQuery(0, 2, "", "name", "asc"), 0, slice, this::count);
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, withoutTotal);
+        Assertions.assertEquals(10, withTotal);
+        Assertions.assertEquals(1, counts.get());
+    }
+
+    private long count() {
+        counts.incrementAndGet();
+        return 10;
+    }
+}